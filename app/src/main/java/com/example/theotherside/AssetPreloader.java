@@ -0,0 +1,108 @@
+/*
+ * This file contains the AssetPreloader class which warms the game's assets on
+ * a background thread while the intro video plays, so that starting a game does
+ * not have to decode and scale bitmaps on the main thread.
+ *
+ * The class manages:
+ * - A low-priority background thread for preloading
+ * - Starting the preload once per process
+ * - Telling the main thread when the preloaded assets are ready
+ * - Singleton pattern to ensure a single instance
+ *
+ */
+
+package com.example.theotherside;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Preloads everything GameView needs into the shared caches. The game asks to be
+ * called back with whenReady() before it looks the assets up, so the main thread
+ * never waits on a decode; if the preload was never started (for example when the
+ * process was restored straight into the game) the game starts it itself.
+ */
+public class AssetPreloader {
+    private static final String TAG = "AssetPreloader";
+    private static AssetPreloader instance;
+
+    private final ExecutorService executor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private boolean started;
+
+    /**
+     * Private constructor that creates the background thread's executor.
+     */
+    private AssetPreloader() {
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(() -> {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                task.run();
+            }, "AssetPreloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the singleton instance of AssetPreloader.
+     *
+     * @return The AssetPreloader instance
+     */
+    public static synchronized AssetPreloader getInstance() {
+        if (instance == null) {
+            instance = new AssetPreloader();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts preloading the game's assets in the background. Does nothing if the
+     * preload was already started.
+     *
+     * @param context - Any context; only the application context is used
+     * @param screenWidth - The width of the game screen
+     * @param screenHeight - The height of the game screen
+     */
+    public synchronized void start(Context context, int screenWidth, int screenHeight) {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        Context appContext = context.getApplicationContext();
+        executor.execute(() -> {
+            long startMillis = SystemClock.uptimeMillis();
+            try {
+                GameView.preload(appContext, screenWidth, screenHeight);
+                Log.d(TAG, "preloaded in " + (SystemClock.uptimeMillis() - startMillis) + " ms");
+            } catch (RuntimeException e) {
+                // Whatever failed is loaded again on demand
+                Log.w(TAG, "preload failed", e);
+            }
+        });
+    }
+
+    /**
+     * Runs a callback on the main thread once the preload has finished, starting
+     * the preload first if nothing has yet. The executor runs its tasks in order,
+     * so a task queued behind the preload runs only after it.
+     *
+     * @param context - Any context; only the application context is used
+     * @param screenWidth - The width of the game screen, used if the preload starts now
+     * @param screenHeight - The height of the game screen, used if the preload starts now
+     * @param callback - Runs on the main thread when the assets are ready
+     */
+    public synchronized void whenReady(Context context, int screenWidth, int screenHeight,
+                                       Runnable callback) {
+        start(context, screenWidth, screenHeight);
+        executor.execute(() -> mainHandler.post(callback));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * This file contains the BitmapLoader class which decodes drawable resources in
+ * the most memory-efficient form for how the game uses them: opaque backgrounds
+ * in RGB_565, images that are shown scaled decoded with inSampleSize straight
+ * from their source pixels, and static textures moved to hardware bitmaps.
+ *
+ * The class manages:
+ * - Sprite decoding at the screen density
+ * - Downsampled decoding to a target size
+ * - Sampled decoding of large images for views
+ * - Rasterization of vector drawables
+ * - RGB_565 decoding for opaque images
+ * - Conversion of static bitmaps to HARDWARE bitmaps (API 26+)
+ *
+ */
+
+package com.example.theotherside;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+
+import androidx.core.content.ContextCompat;
+
+/**
+ * Static helpers that decode bitmaps for the SpriteCache and the texture atlas.
+ */
+public final class BitmapLoader {
+    private BitmapLoader() {
+    }
+
+    /**
+     * Decodes a sprite scaled to the screen density. Gameplay sizes come from
+     * sprite sizes, so sprites keep exactly the size they always had.
+     *
+     * @param res - The resources to decode from
+     * @param resId - The resource ID of the image
+     * @return The decoded ARGB_8888 bitmap
+     */
+    public static Bitmap decodeSprite(Resources res, int resId) {
+        return checkDecoded(BitmapFactory.decodeResource(res, resId), resId);
+    }
+
+    /**
+     * Decodes an image with transparency at an exact size.
+     *
+     * @param res - The resources to decode from
+     * @param resId - The resource ID of the image
+     * @param width - The target width in pixels
+     * @param height - The target height in pixels
+     * @param filter - Whether to filter when scaling
+     * @return The decoded ARGB_8888 bitmap
+     */
+    public static Bitmap decodeScaled(Resources res, int resId, int width, int height,
+                                      boolean filter) {
+        return decodeToSize(res, resId, width, height, Bitmap.Config.ARGB_8888, filter);
+    }
+
+    /**
+     * Decodes a large image with the largest power-of-two sample size that keeps it
+     * at least as big as the view it is shown in, skipping density scaling. The
+     * bitmap's density is lowered to match, so its size in dp stays the same and
+     * views sized by their content are laid out as before.
+     *
+     * @param res - The resources to decode from
+     * @param resId - The resource ID of the image
+     * @param width - The width of the view in pixels, or 0 if unknown
+     * @param height - The height of the view in pixels, or 0 if unknown
+     * @return The decoded ARGB_8888 bitmap
+     */
+    public static Bitmap decodeSampled(Resources res, int resId, int width, int height) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inScaled = false;
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeResource(res, resId, options);
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = width > 0 && height > 0
+                ? calculateInSampleSize(options.outWidth, options.outHeight, width, height) : 1;
+        Bitmap bitmap = checkDecoded(BitmapFactory.decodeResource(res, resId, options), resId);
+        bitmap.setDensity(bitmap.getDensity() / options.inSampleSize);
+        return bitmap;
+    }
+
+    /**
+     * Draws a vector drawable into a new bitmap of the given size.
+     *
+     * @param context - The context whose theme the drawable is inflated with
+     * @param resId - The resource ID of the vector drawable
+     * @param width - The width in pixels
+     * @param height - The height in pixels
+     * @return The rasterized ARGB_8888 bitmap
+     */
+    public static Bitmap decodeVector(Context context, int resId, int width, int height) {
+        Drawable drawable = ContextCompat.getDrawable(context, resId);
+        if (drawable == null) {
+            throw new RuntimeException("did not load drawable " + resId);
+        }
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, width, height);
+        drawable.draw(new Canvas(bitmap));
+        return bitmap;
+    }
+
+    /**
+     * Decodes an image without transparency, such as a background, at an exact size
+     * in RGB_565, which takes half the memory of ARGB_8888.
+     *
+     * @param res - The resources to decode from
+     * @param resId - The resource ID of the image
+     * @param width - The target width in pixels
+     * @param height - The target height in pixels
+     * @return The decoded RGB_565 bitmap
+     */
+    public static Bitmap decodeOpaque(Resources res, int resId, int width, int height) {
+        return decodeToSize(res, resId, width, height, Bitmap.Config.RGB_565, true);
+    }
+
+    /**
+     * Moves a bitmap that is never modified or read back into GPU memory (API 26+),
+     * so it no longer counts against the app heap. Hardware bitmaps can only be
+     * drawn on hardware-accelerated canvases. The original bitmap is recycled.
+     *
+     * @param bitmap - The bitmap to convert
+     * @return The hardware bitmap, or the original where not supported
+     */
+    public static Bitmap toHardware(Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+            return bitmap;
+        }
+        Bitmap hardware = bitmap.copy(Bitmap.Config.HARDWARE, false);
+        if (hardware == null) {
+            return bitmap;
+        }
+        bitmap.recycle();
+        return hardware;
+    }
+
+    /**
+     * Returns the largest power-of-two sample size that keeps the decoded image at
+     * least as large as the target in both dimensions.
+     *
+     * @param sourceWidth - The width of the encoded image
+     * @param sourceHeight - The height of the encoded image
+     * @param targetWidth - The width the image is shown at
+     * @param targetHeight - The height the image is shown at
+     * @return The inSampleSize to decode with
+     */
+    public static int calculateInSampleSize(int sourceWidth, int sourceHeight,
+                                            int targetWidth, int targetHeight) {
+        int sampleSize = 1;
+        while (sourceWidth / (sampleSize * 2) >= targetWidth
+                && sourceHeight / (sampleSize * 2) >= targetHeight) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    /**
+     * Decodes from the source pixels, skipping density scaling, sampled down as far
+     * as the target size allows, then scaled to the exact size in the given config.
+     */
+    private static Bitmap decodeToSize(Resources res, int resId, int width, int height,
+                                       Bitmap.Config config, boolean filter) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inScaled = false;
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeResource(res, resId, options);
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight,
+                width, height);
+        options.inPreferredConfig = config;
+        Bitmap bitmap = checkDecoded(BitmapFactory.decodeResource(res, resId, options), resId);
+
+        // The decoder may ignore the preferred config, so scaling also converts
+        if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                && bitmap.getConfig() == config) {
+            return bitmap;
+        }
+        Bitmap scaled = Bitmap.createBitmap(width, height, config);
+        Paint paint = filter ? new Paint(Paint.FILTER_BITMAP_FLAG) : null;
+        new Canvas(scaled).drawBitmap(bitmap, null, new Rect(0, 0, width, height), paint);
+        bitmap.recycle();
+        return scaled;
+    }
+
+    private static Bitmap checkDecoded(Bitmap bitmap, int resId) {
+        if (bitmap == null) {
+            throw new RuntimeException("did not load bitmap " + resId);
+        }
+        return bitmap;
+    }
+}
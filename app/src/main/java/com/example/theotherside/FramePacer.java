@@ -0,0 +1,90 @@
+/*
+ * This file contains the FramePacer class which decides, for every vsync a
+ * FrameScheduler receives, whether a frame runs on it. It holds no Android
+ * types, so the pacing can be tested without a display.
+ *
+ * The class manages:
+ * - Skipping vsyncs that arrive before the target frame interval has passed
+ * - Requesting the next vsync, so continuous frames keep coming and a paced
+ *   on-demand frame is only postponed, never dropped
+ * - Counting vsyncs missed beyond the target interval
+ *
+ */
+
+package com.example.theotherside;
+
+/**
+ * Vsync pacing state of one frame scheduler. Only used on the scheduler's
+ * looper thread.
+ */
+class FramePacer {
+    private final Runnable requestVsync;
+    private long lastFrameTimeNanos;
+    private long skippedVsyncs;
+
+    /**
+     * Creates a pacer.
+     *
+     * @param requestVsync - Asks for one more vsync callback; several requests
+     *                       before that vsync must result in one callback
+     */
+    FramePacer(Runnable requestVsync) {
+        this.requestVsync = requestVsync;
+    }
+
+    /**
+     * Forgets the previous frame, so the next vsync runs a frame without
+     * comparing against it. Called when the scheduler starts.
+     */
+    void reset() {
+        lastFrameTimeNanos = 0;
+    }
+
+    /**
+     * Decides whether a frame runs on a vsync. In continuous mode the next vsync
+     * is requested first, so a long frame can't push it back a whole interval.
+     * A vsync that comes too early for the target interval is skipped; in
+     * on-demand mode the next vsync is requested again, because this one was
+     * requested for a frame that still has to run.
+     *
+     * @param frameTimeNanos - The vsync timestamp
+     * @param vsyncNanos - The time between two vsyncs
+     * @param targetNanos - The target time between two frames, at least vsyncNanos
+     * @param continuous - Whether frames run on every vsync or only on request
+     * @return true if a frame runs on this vsync
+     */
+    boolean onVsync(long frameTimeNanos, long vsyncNanos, long targetNanos, boolean continuous) {
+        if (continuous) {
+            requestVsync.run();
+        }
+        if (lastFrameTimeNanos != 0) {
+            long interval = frameTimeNanos - lastFrameTimeNanos;
+
+            // Below the target interval (with half a vsync of slack): skip this vsync
+            if (interval < targetNanos - vsyncNanos / 2) {
+                if (!continuous) {
+                    requestVsync.run();
+                }
+                return false;
+            }
+
+            // Count vsyncs that passed beyond the target interval without a frame
+            long lateNanos = interval - targetNanos;
+            if (lateNanos > vsyncNanos / 2) {
+                skippedVsyncs += (lateNanos + vsyncNanos / 2) / vsyncNanos;
+            }
+        }
+        // On-demand frames are expected to have gaps, so don't compare against them
+        lastFrameTimeNanos = continuous ? frameTimeNanos : 0;
+        return true;
+    }
+
+    /**
+     * Returns the number of vsync pulses missed beyond the target frame interval.
+     *
+     * @return The skipped vsync count since the pacer was created
+     */
+    long getSkippedVsyncs() {
+        return skippedVsyncs;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file contains the FrameRateMode enum which lists the frame rates the game
+ * can render at: the display's native refresh rate, a steady 60 fps, or a 30 fps
+ * power saver for low-end devices and battery saver mode.
+ *
+ */
+
+package com.example.theotherside;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.PowerManager;
+import android.util.Log;
+
+/**
+ * Selectable target frame rates for rendering. The simulation always runs at its
+ * own fixed tick rate regardless of the mode.
+ */
+public enum FrameRateMode {
+    NATIVE(0f),
+    FPS_60(60f),
+    POWER_SAVER_30(30f);
+
+    private static final String TAG = "FrameRateMode";
+    private static final String PREF_KEY = "frameRateMode";
+
+    private final float targetFps;
+
+    FrameRateMode(float targetFps) {
+        this.targetFps = targetFps;
+    }
+
+    /**
+     * Returns the frame rate to render at on a display with the given refresh rate.
+     *
+     * @param refreshRate - The display refresh rate in Hz
+     * @return The target frames per second, never above the refresh rate
+     */
+    public float getTargetFps(float refreshRate) {
+        if (targetFps <= 0f || targetFps > refreshRate) {
+            return refreshRate;
+        }
+        return targetFps;
+    }
+
+    /**
+     * Returns whether a display refresh rate is a whole multiple of this mode's
+     * target, so frames can be paced evenly by skipping vsyncs.
+     *
+     * @param refreshRate - The display refresh rate in Hz
+     * @return true if the refresh rate suits this mode, false otherwise
+     */
+    public boolean isEvenlyPacedAt(float refreshRate) {
+        if (targetFps <= 0f || refreshRate < targetFps) {
+            return targetFps <= 0f;
+        }
+        float vsyncsPerFrame = refreshRate / targetFps;
+        return Math.abs(vsyncsPerFrame - Math.round(vsyncsPerFrame)) < 0.05f;
+    }
+
+    /**
+     * Loads the player's selected mode. Without a selection the power saver is
+     * used while the system battery saver is on, and the native rate otherwise.
+     *
+     * @param context - The context used to read preferences and the power state
+     * @return The frame rate mode to use
+     */
+    public static FrameRateMode load(Context context) {
+        SharedPreferences prefs = context.getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
+        String saved = prefs.getString(PREF_KEY, null);
+        if (saved != null) {
+            try {
+                return valueOf(saved);
+            } catch (IllegalArgumentException e) {
+                Log.w(TAG, "ignoring unknown saved mode " + saved, e);
+            }
+        }
+
+        PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        if (powerManager != null && powerManager.isPowerSaveMode()) {
+            return POWER_SAVER_30;
+        }
+        return NATIVE;
+    }
+
+    /**
+     * Stores this mode as the player's selection.
+     *
+     * @param context - The context used to write preferences
+     */
+    public void save(Context context) {
+        SharedPreferences prefs = context.getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
+        prefs.edit().putString(PREF_KEY, name()).apply();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * This file contains the FrameScheduler class which paces the game loop against
+ * the display's vsync signal. Instead of sleeping a fixed amount of time after
+ * every frame, it registers a Choreographer.FrameCallback on a long-lived looper
+ * thread and runs one frame for every vsync pulse.
+ *
+ * The class manages:
+ * - The Choreographer of its looper thread
+ * - Frame budget calculation from the vsync timestamp
+ * - Tracking of missed frame deadlines
+ * - Starting and stopping of the frame callbacks
+ * - Running posted tasks on the looper thread between frames
+ * - Continuous and on-demand frame modes, so an idle loop can park
+ * - A target frame rate below the display refresh rate, paced by a FramePacer
+ *
+ */
+
+package com.example.theotherside;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.Choreographer;
+
+/**
+ * Drives a FrameListener once per display vsync using Choreographer.
+ * Each frame is given the vsync timestamp and the time left until the next
+ * vsync, and frames whose work runs past that deadline are counted.
+ * In continuous mode a frame runs on every vsync; otherwise frames only run
+ * when requested and the looper thread sleeps in between.
+ */
+public class FrameScheduler implements Choreographer.FrameCallback {
+    private static final String TAG = "FrameScheduler";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Receives one callback per vsync on the scheduler's looper thread.
+     */
+    public interface FrameListener {
+        /**
+         * Runs the work for a single frame.
+         *
+         * @param frameTimeNanos - The vsync timestamp of this frame (System.nanoTime base)
+         * @param frameBudgetNanos - Time remaining until this frame's deadline
+         */
+        void onFrame(long frameTimeNanos, long frameBudgetNanos);
+    }
+
+    private final String name;
+    private final FrameListener listener;
+    private volatile long frameIntervalNanos;
+    private volatile long targetIntervalNanos;
+
+    private final Handler handler;
+    private final Runnable scheduleFrameTask = this::scheduleFrame; // posted without allocating
+    private Choreographer choreographer; // only touched on the looper thread
+    private volatile boolean running;
+    private volatile boolean continuous = true;
+    private boolean framePending; // only touched on the looper thread
+    private final FramePacer pacer = new FramePacer(scheduleFrameTask); // looper thread only
+
+    private long frameCount;
+    private long missedDeadlines;
+
+    /**
+     * Creates a new frame scheduler for the given listener.
+     *
+     * @param name - The name used in log output
+     * @param looper - The looper of the thread that runs frames and posted tasks
+     * @param listener - The listener that performs the work of each frame
+     * @param refreshRate - The display refresh rate in Hz, used to size the frame budget
+     */
+    public FrameScheduler(String name, Looper looper, FrameListener listener, float refreshRate) {
+        this.name = name;
+        this.handler = new Handler(looper);
+        this.listener = listener;
+        setRefreshRate(refreshRate);
+    }
+
+    /**
+     * Sets the display refresh rate, e.g. after the display switched modes.
+     * Resets the target frame rate to one frame per vsync.
+     *
+     * @param refreshRate - The display refresh rate in Hz
+     */
+    public void setRefreshRate(float refreshRate) {
+        if (refreshRate < 1f) {
+            refreshRate = 60f;
+        }
+        frameIntervalNanos = (long) (NANOS_PER_SECOND / refreshRate);
+        targetIntervalNanos = frameIntervalNanos;
+    }
+
+    /**
+     * Limits how often frames run. Vsyncs are skipped until the target interval
+     * has passed, so e.g. a 30 fps target on a 120 Hz display runs every fourth vsync.
+     * A target of zero or above the refresh rate runs a frame on every vsync.
+     *
+     * @param targetFps - The target frames per second
+     */
+    public void setTargetFrameRate(float targetFps) {
+        long interval = targetFps > 0f ? (long) (NANOS_PER_SECOND / targetFps) : 0;
+        targetIntervalNanos = Math.max(interval, frameIntervalNanos);
+    }
+
+    /**
+     * Signals the looper thread to begin receiving vsync callbacks.
+     * Returns immediately; does nothing if the scheduler is already running.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+
+        handler.post(() -> {
+            // Choreographer instances are per-thread, so it has to be fetched on the loop thread
+            if (choreographer == null) {
+                choreographer = Choreographer.getInstance();
+            }
+            pacer.reset();
+            scheduleFrame();
+        });
+    }
+
+    /**
+     * Signals the looper thread to stop receiving vsync callbacks. Returns
+     * immediately without waiting for a frame in progress; no further frame
+     * starts after this call. Safe to call more than once.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        handler.post(() -> {
+            if (choreographer != null) {
+                choreographer.removeFrameCallback(this);
+            }
+            framePending = false;
+            Log.d(TAG, name + ": frames=" + frameCount + " skippedVsyncs=" + pacer.getSkippedVsyncs()
+                    + " missedDeadlines=" + missedDeadlines);
+        });
+    }
+
+    /**
+     * Runs a task on the looper thread, in order with the frame callbacks.
+     * Tasks also run while the scheduler is stopped. Posting allocates nothing,
+     * so a task kept in a field can be posted from an input handler.
+     *
+     * @param task - The task to run
+     */
+    public void post(Runnable task) {
+        // A task may change what is on screen, so follow it with a frame
+        handler.post(task);
+        handler.post(scheduleFrameTask);
+    }
+
+    /**
+     * Sets whether a frame runs on every vsync or only when requested.
+     * Switching to continuous mode schedules the next frame right away.
+     *
+     * @param continuous - true to run every vsync, false to run on demand
+     */
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+        if (continuous) {
+            requestFrame();
+        }
+    }
+
+    /**
+     * Requests a single frame on the next vsync. Multiple requests before that
+     * vsync result in one frame. Can be called from any thread.
+     */
+    public void requestFrame() {
+        if (handler.getLooper().isCurrentThread()) {
+            scheduleFrame();
+        } else {
+            handler.post(scheduleFrameTask);
+        }
+    }
+
+    /**
+     * Posts the frame callback unless one is already pending. Looper thread only.
+     */
+    private void scheduleFrame() {
+        if (running && !framePending && choreographer != null) {
+            choreographer.postFrameCallback(this);
+            framePending = true;
+        }
+    }
+
+    /**
+     * Called by Choreographer on a vsync. Lets the pacer decide whether a frame
+     * runs on it and request the next vsync, computes the frame budget and runs
+     * the listener.
+     *
+     * @param frameTimeNanos - The time at which the vsync pulse was issued
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        framePending = false;
+        if (!running) {
+            return;
+        }
+        long targetNanos = targetIntervalNanos;
+        if (!pacer.onVsync(frameTimeNanos, frameIntervalNanos, targetNanos, continuous)) {
+            return;
+        }
+
+        long deadlineNanos = frameTimeNanos + targetNanos;
+        listener.onFrame(frameTimeNanos, deadlineNanos - System.nanoTime());
+
+        if (System.nanoTime() > deadlineNanos) {
+            missedDeadlines++;
+        }
+        frameCount++;
+    }
+
+    /**
+     * Returns the expected time between two vsync pulses.
+     *
+     * @return The frame interval in nanoseconds
+     */
+    public long getFrameIntervalNanos() {
+        return frameIntervalNanos;
+    }
+
+    /**
+     * Returns the expected time between two frames at the target frame rate.
+     *
+     * @return The target frame interval in nanoseconds
+     */
+    public long getTargetIntervalNanos() {
+        return targetIntervalNanos;
+    }
+
+    /**
+     * Returns the number of frames whose work finished after their deadline.
+     *
+     * @return The missed deadline count since the scheduler was created
+     */
+    public long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    /**
+     * Returns the number of vsync pulses missed beyond the target frame interval.
+     *
+     * @return The skipped vsync count since the scheduler was created
+     */
+    public long getSkippedVsyncs() {
+        return pacer.getSkippedVsyncs();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file contains the FrameSnapshot class which holds everything the render
+ * thread needs to draw one frame: sprite positions for the current and previous
+ * simulation tick and the values shown by the HUD and the overlays.
+ *
+ * The class manages:
+ * - Sprite atlas regions and positions in draw order
+ * - HUD and game state values
+ * - The interpolation factor for drawing between ticks
+ *
+ */
+
+package com.example.theotherside;
+
+import com.example.theotherside.engine.Entities;
+import com.example.theotherside.engine.GameObject;
+
+/**
+ * Copy of the game state published by the simulation thread for the render thread.
+ * A snapshot is filled by the simulation, handed over through a TripleBuffer and
+ * is not modified again until the renderer has moved on to a newer one. Arrays
+ * grow when needed and are reused between frames.
+ */
+public class FrameSnapshot {
+    private static final int INITIAL_CAPACITY = 32;
+
+    // Sprites in draw order
+    int spriteCount;
+    int[] regions = new int[INITIAL_CAPACITY];
+    float[] posX = new float[INITIAL_CAPACITY];
+    float[] posY = new float[INITIAL_CAPACITY];
+    float[] prevX = new float[INITIAL_CAPACITY];
+    float[] prevY = new float[INITIAL_CAPACITY];
+
+    // HUD and game state
+    int score;
+    int coinsCollected;
+    int countdownValue;
+    boolean isPaused;
+    boolean isCountingDown;
+    boolean isGameOver;
+
+    // Interpolation state
+    boolean isSimulating;
+    float alpha;
+    long clockNanos;
+    long tickNanos;
+
+    /**
+     * Removes all sprites so the snapshot can be filled for a new frame.
+     */
+    void clear() {
+        spriteCount = 0;
+    }
+
+    /**
+     * Appends a game object's positions and the atlas region it is drawn with.
+     * Dead objects are skipped.
+     *
+     * @param object - The game object to copy
+     * @param region - The texture atlas region of the object's sprite
+     */
+    void addSprite(GameObject object, int region) {
+        if (!object.isAlive()) {
+            return;
+        }
+        if (spriteCount == regions.length) {
+            grow();
+        }
+        regions[spriteCount] = region;
+        posX[spriteCount] = object.getPosX();
+        posY[spriteCount] = object.getPosY();
+        prevX[spriteCount] = object.getPrevX();
+        prevY[spriteCount] = object.getPrevY();
+        spriteCount++;
+    }
+
+    /**
+     * Appends every drawable entity with the given tags, with the atlas region of
+     * its sprite. This is the render system's gather step: any entity with a
+     * transform and a sprite is drawn, whatever kind it is.
+     *
+     * @param entities - The entities to copy
+     * @param tags - The tags an entity needs to be copied, e.g. Entities.PICKUP
+     */
+    void addSprites(Entities entities, int tags) {
+        int drawable = Entities.TRANSFORM | Entities.SPRITE | tags;
+        int count = entities.size();
+        while (spriteCount + count > regions.length) {
+            grow();
+        }
+        for (int row = 0; row < count; row++) {
+            if (!entities.has(row, drawable)) {
+                continue;
+            }
+            regions[spriteCount] = entities.getSprite(row).ordinal();
+            posX[spriteCount] = entities.getPosX(row);
+            posY[spriteCount] = entities.getPosY(row);
+            prevX[spriteCount] = entities.getPrevX(row);
+            prevY[spriteCount] = entities.getPrevY(row);
+            spriteCount++;
+        }
+    }
+
+    /**
+     * Returns how far between the previous and current tick to draw at the given time.
+     * The interpolation continues from where the simulation left it, capped at the
+     * current tick so sprites are never drawn ahead of the simulation.
+     *
+     * @param nowNanos - The current game clock time
+     * @return The interpolation factor in the range [0, 1]
+     */
+    float alphaAt(long nowNanos) {
+        if (!isSimulating) {
+            return 1f;
+        }
+        float result = alpha + (float) (nowNanos - clockNanos) / tickNanos;
+        return Math.max(0f, Math.min(1f, result));
+    }
+
+    private void grow() {
+        int capacity = regions.length * 2;
+        int[] newRegions = new int[capacity];
+        System.arraycopy(regions, 0, newRegions, 0, spriteCount);
+        regions = newRegions;
+        posX = copyOf(posX, capacity);
+        posY = copyOf(posY, capacity);
+        prevX = copyOf(prevX, capacity);
+        prevY = copyOf(prevY, capacity);
+    }
+
+    private float[] copyOf(float[] array, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(array, 0, copy, 0, spriteCount);
+        return copy;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file contains the FrameStats class which collects per-phase timing
+ * histograms from the simulation and render threads and writes them to a file
+ * in app storage when a run of the game loop ends, so builds and devices can be
+ * compared.
+ *
+ * The class manages:
+ * - One LatencyHistogram per game loop phase
+ * - Each thread handing its histograms over at the end of a run
+ * - Writing a summary with device and loop settings to a stats file
+ * - Keeping only the most recent stats files
+ *
+ */
+
+package com.example.theotherside;
+
+import android.content.Context;
+import android.os.Build;
+import android.util.Log;
+
+import com.example.theotherside.engine.LatencyHistogram;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Frame timing histograms for one run of the game loop. A run starts when the
+ * game resumes or a game ends, and ends at the next game over or pause, so
+ * every game gets its own file. Simulation histograms are only recorded on the
+ * simulation thread and render histograms only on the render thread, so
+ * recording needs no locking and allocates nothing.
+ *
+ * At the end of a run each thread moves its histograms into the finished run
+ * with endSimulationRun() or endRenderRun(), between two of its own frames, so
+ * no thread ever clears or reads histograms another thread records into. Once
+ * both threads have handed over, the finished run is written to a file.
+ */
+public class FrameStats {
+    private static final String TAG = "FrameStats";
+    private static final String DIRECTORY = "frame_stats";
+    private static final int MAX_FILES = 20;
+
+    // Simulation thread
+    final LatencyHistogram simCallback = new LatencyHistogram("sim.callback");
+    final LatencyHistogram simTicks = new LatencyHistogram("sim.ticks");
+    final LatencyHistogram simFrame = new LatencyHistogram("sim.frame");
+
+    // Render thread
+    final LatencyHistogram renderCallback = new LatencyHistogram("render.callback");
+    final LatencyHistogram renderLock = new LatencyHistogram("render.lock");
+    final LatencyHistogram renderDraw = new LatencyHistogram("render.draw");
+    final LatencyHistogram renderPost = new LatencyHistogram("render.post");
+    final LatencyHistogram renderFrame = new LatencyHistogram("render.frame");
+    final LatencyHistogram renderJitter = new LatencyHistogram("render.jitter");
+
+    private final LatencyHistogram[] simHistograms = {simCallback, simTicks, simFrame};
+    private final LatencyHistogram[] renderHistograms = {
+            renderCallback, renderLock, renderDraw, renderPost, renderFrame, renderJitter
+    };
+
+    // The run that ended, guarded by this object
+    private final LatencyHistogram[] finishedSim = copyNames(simHistograms);
+    private final LatencyHistogram[] finishedRender = copyNames(renderHistograms);
+    private boolean simHandedOver, renderHandedOver;
+
+    /**
+     * Ends the run for the simulation histograms and clears them for the next
+     * run. Simulation thread only.
+     *
+     * @param context - The context used to find app storage
+     * @param settings - Describes the loop settings if this call completes the run
+     */
+    synchronized void endSimulationRun(Context context, Supplier<String> settings) {
+        drain(simHistograms, finishedSim);
+        simHandedOver = true;
+        writeIfComplete(context, settings);
+    }
+
+    /**
+     * Ends the run for the render histograms and clears them for the next run.
+     * Render thread only.
+     *
+     * @param context - The context used to find app storage
+     * @param settings - Describes the loop settings if this call completes the run
+     */
+    synchronized void endRenderRun(Context context, Supplier<String> settings) {
+        drain(renderHistograms, finishedRender);
+        renderHandedOver = true;
+        writeIfComplete(context, settings);
+    }
+
+    /**
+     * Writes the finished run once both threads handed it over, and starts
+     * collecting the next one.
+     */
+    private void writeIfComplete(Context context, Supplier<String> settings) {
+        if (!simHandedOver || !renderHandedOver) {
+            return;
+        }
+        simHandedOver = renderHandedOver = false;
+        if (hasFrames(finishedSim) || hasFrames(finishedRender)) {
+            dump(context, settings.get());
+        }
+        for (LatencyHistogram histogram : finishedSim) {
+            histogram.reset();
+        }
+        for (LatencyHistogram histogram : finishedRender) {
+            histogram.reset();
+        }
+    }
+
+    private static boolean hasFrames(LatencyHistogram[] histograms) {
+        for (LatencyHistogram histogram : histograms) {
+            if (histogram.getCount() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void drain(LatencyHistogram[] live, LatencyHistogram[] finished) {
+        for (int i = 0; i < live.length; i++) {
+            live[i].drainTo(finished[i]);
+        }
+    }
+
+    private static LatencyHistogram[] copyNames(LatencyHistogram[] histograms) {
+        LatencyHistogram[] copies = new LatencyHistogram[histograms.length];
+        for (int i = 0; i < histograms.length; i++) {
+            copies[i] = new LatencyHistogram(histograms[i].getName());
+        }
+        return copies;
+    }
+
+    /**
+     * Writes the finished run to a new file in the app's frame_stats directory and
+     * deletes the oldest files beyond MAX_FILES. Values are in microseconds.
+     *
+     * @param context - The context used to find app storage
+     * @param settings - A line describing the loop settings of this run
+     */
+    private void dump(Context context, String settings) {
+        File directory = new File(context.getFilesDir(), DIRECTORY);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "could not create " + directory);
+            return;
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(new Date());
+        File file = new File(directory, "frames-" + stamp + ".txt");
+
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("device: " + Build.MANUFACTURER + " " + Build.MODEL
+                    + " (API " + Build.VERSION.SDK_INT + ")\n");
+            writer.write("settings: " + settings + "\n");
+            writer.write("unit: microseconds\n");
+            write(writer, finishedSim);
+            write(writer, finishedRender);
+        } catch (IOException e) {
+            Log.w(TAG, "could not write " + file, e);
+            return;
+        }
+        Log.d(TAG, "wrote " + file);
+
+        // File names sort by time, so the oldest come first
+        File[] files = directory.listFiles();
+        if (files != null && files.length > MAX_FILES) {
+            Arrays.sort(files);
+            for (int i = 0; i < files.length - MAX_FILES; i++) {
+                files[i].delete();
+            }
+        }
+    }
+
+    private static void write(Writer writer, LatencyHistogram[] histograms) throws IOException {
+        for (LatencyHistogram histogram : histograms) {
+            writer.write(histogram.summary());
+            writer.write('\n');
+        }
+    }
+}
@@ -4,18 +4,23 @@
  * and lifecycle management of the game.
  *
  * The class manages:
- * - Game view initialization
+ * - Game view initialization once the preloaded assets are ready
  * - Screen dimension retrieval
  * - Activity lifecycle events
  * - Game pause and resume functionality
+ * - Display refresh rate selection for the chosen frame rate mode
+ * - Configuration changes without recreating the game
  *
  */
 
 package com.example.theotherside;
 
+import android.content.res.Configuration;
 import android.graphics.Point;
 import android.os.Bundle;
 import android.util.Log;
+import android.view.Display;
+import android.view.WindowManager;
 
 import androidx.appcompat.app.AppCompatActivity;
 
@@ -27,11 +32,15 @@ import androidx.appcompat.app.AppCompatActivity;
 public class GameActivity extends AppCompatActivity {
 
     private SoundManager soundManager;
-    private GameView gameView;
+    private GameView gameView; // null until the preloaded assets are ready
+    private FrameRateMode frameRateMode;
+    private float refreshRate; // of the selected display mode
+    private boolean isResumed;
 
     /**
      * Initializes the game activity and sets up the game view.
-     * Retrieves screen dimensions and creates a new game view instance.
+     * Retrieves screen dimensions and creates a new game view instance as soon as
+     * the preloader has decoded its bitmaps, so the main thread never waits on them.
      *
      * @param savedInstanceState - Bundle containing the activity's previously saved state
      */
@@ -43,9 +52,13 @@ public class GameActivity extends AppCompatActivity {
         Point size = new Point();
         getWindowManager().getDefaultDisplay().getSize(size);
 
-        // Create game view with screen dimensions
-        gameView = new GameView(this, size.x, size.y);
-        setContentView(gameView);
+        // Pick a display refresh rate that suits the frame rate mode
+        frameRateMode = FrameRateMode.load(this);
+        refreshRate = selectDisplayMode(frameRateMode);
+
+        // Create game view with screen dimensions once its bitmaps are in the cache
+        AssetPreloader.getInstance().whenReady(this, size.x, size.y,
+                () -> createGameView(size.x, size.y));
 
         // Initialise sound manager
         soundManager = SoundManager.getInstance(this);
@@ -54,6 +67,79 @@ public class GameActivity extends AppCompatActivity {
         Log.d("NAV_DEBUG", "GameActivity created");
     }
 
+    /**
+     * Creates the game view and shows it, catching up on a resume that happened
+     * while the assets were still loading.
+     *
+     * @param screenWidth - The width of the game screen
+     * @param screenHeight - The height of the game screen
+     */
+    private void createGameView(int screenWidth, int screenHeight) {
+        if (isDestroyed()) {
+            return;
+        }
+        gameView = new GameView(this, screenWidth, screenHeight);
+        gameView.setFrameRateMode(frameRateMode, refreshRate);
+        setContentView(gameView);
+        if (isResumed) {
+            gameView.resume();
+        }
+    }
+
+    /**
+     * Requests the display mode that best suits the frame rate mode: the highest
+     * refresh rate for native rendering, otherwise the lowest refresh rate that
+     * is a whole multiple of the target frame rate. Only modes with the current
+     * resolution are considered.
+     *
+     * @param frameRateMode - The frame rate mode the game will render at
+     * @return The refresh rate of the requested display mode in Hz
+     */
+    private float selectDisplayMode(FrameRateMode frameRateMode) {
+        Display display = getWindowManager().getDefaultDisplay();
+        Display.Mode current = display.getMode();
+        Display.Mode best = current;
+
+        for (Display.Mode mode : display.getSupportedModes()) {
+            if (mode.getPhysicalWidth() != current.getPhysicalWidth()
+                    || mode.getPhysicalHeight() != current.getPhysicalHeight()) {
+                continue;
+            }
+            float refreshRate = mode.getRefreshRate();
+            if (frameRateMode == FrameRateMode.NATIVE) {
+                if (refreshRate > best.getRefreshRate()) {
+                    best = mode;
+                }
+            } else if (frameRateMode.isEvenlyPacedAt(refreshRate)
+                    && (!frameRateMode.isEvenlyPacedAt(best.getRefreshRate())
+                    || refreshRate < best.getRefreshRate())) {
+                best = mode;
+            }
+        }
+
+        WindowManager.LayoutParams params = getWindow().getAttributes();
+        params.preferredDisplayModeId = best.getModeId();
+        getWindow().setAttributes(params);
+        return best.getRefreshRate();
+    }
+
+    /**
+     * Handles the configuration changes declared in the manifest (window resizes,
+     * folding, theme and locale changes) without recreating the activity, so the
+     * running game keeps its state and bitmaps. GameView fits itself to the new
+     * surface size; the display may have changed too, so its mode is picked again.
+     *
+     * @param newConfig - The new configuration
+     */
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        refreshRate = selectDisplayMode(frameRateMode);
+        if (gameView != null) {
+            gameView.setFrameRateMode(frameRateMode, refreshRate);
+        }
+    }
+
     /**
      * Handles the pause event of the activity.
      * Pauses the game view to stop game updates and rendering.
@@ -61,7 +147,10 @@ public class GameActivity extends AppCompatActivity {
     @Override
     protected void onPause() {
         super.onPause();
-        gameView.pause();
+        isResumed = false;
+        if (gameView != null) {
+            gameView.pause();
+        }
         soundManager.pauseBgMusic();
     }
 
@@ -72,15 +161,27 @@ public class GameActivity extends AppCompatActivity {
     @Override
     protected void onResume() {
         super.onResume();
-        gameView.resume();
+        isResumed = true;
+        if (gameView != null) {
+            gameView.resume();
+        }
         soundManager.startBgMusic();
     }
 
+    /**
+     * Handles the destroy event of the activity.
+     * The game loop was already stopped in onPause() and its threads are shared,
+     * so only the music player and the game's pinned images are released here.
+     * The sound effects belong to the application and stay loaded for the next game.
+     */
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        soundManager.release();
-        gameView.pause(); //prevent thread leaks
+        soundManager.releaseBgMusic();
+        if (gameView != null) {
+            // Only this game's pins; a game started since keeps its own
+            SpriteCache.getInstance(this).release(gameView);
+        }
     }
 
 }
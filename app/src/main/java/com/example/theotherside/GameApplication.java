@@ -0,0 +1,87 @@
+/*
+ * This file contains the GameApplication class which owns the game's long-lived
+ * services for the lifetime of the process. Services are created on first use
+ * with the application context, so no Activity is ever kept alive by them and
+ * no Activity pays their setup cost more than once.
+ *
+ * The class manages:
+ * - Sound effects and background music (SoundManager)
+ * - Decoded images (SpriteCache)
+ * - Saved progress such as the high score and coins (GameProgress)
+ * - Frame timing metrics (FrameStats)
+ *
+ */
+
+package com.example.theotherside;
+
+import android.app.Application;
+import android.content.Context;
+
+/**
+ * Application subclass that acts as the container for process-wide services.
+ * Look it up with from() from any context.
+ */
+public class GameApplication extends Application {
+    private SoundManager soundManager;
+    private SpriteCache spriteCache;
+    private GameProgress progress;
+    private FrameStats frameStats;
+
+    /**
+     * Returns the application of the given context.
+     *
+     * @param context - Any context of this app
+     * @return The GameApplication instance
+     */
+    public static GameApplication from(Context context) {
+        return (GameApplication) context.getApplicationContext();
+    }
+
+    /**
+     * Returns the sound manager, loading the sounds on first use.
+     *
+     * @return The SoundManager instance
+     */
+    public synchronized SoundManager getSoundManager() {
+        if (soundManager == null) {
+            soundManager = new SoundManager(this);
+        }
+        return soundManager;
+    }
+
+    /**
+     * Returns the image cache, creating it on first use.
+     *
+     * @return The SpriteCache instance
+     */
+    public synchronized SpriteCache getSpriteCache() {
+        if (spriteCache == null) {
+            spriteCache = new SpriteCache(this);
+        }
+        return spriteCache;
+    }
+
+    /**
+     * Returns the player's saved progress.
+     *
+     * @return The GameProgress instance
+     */
+    public synchronized GameProgress getProgress() {
+        if (progress == null) {
+            progress = new GameProgress(this);
+        }
+        return progress;
+    }
+
+    /**
+     * Returns the frame timing histograms shared by every run of the game loop.
+     *
+     * @return The FrameStats instance
+     */
+    public synchronized FrameStats getFrameStats() {
+        if (frameStats == null) {
+            frameStats = new FrameStats();
+        }
+        return frameStats;
+    }
+}
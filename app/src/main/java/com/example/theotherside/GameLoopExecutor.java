@@ -0,0 +1,72 @@
+/*
+ * This file contains the GameLoopExecutor class which owns the long-lived threads
+ * that run the game loop. The threads are created once per process with display
+ * priority and are reused by every GameView, so pausing and resuming the game
+ * never creates, starts or joins a thread.
+ *
+ * The class manages:
+ * - The simulation looper thread
+ * - The render looper thread
+ * - Scheduling priority of both threads
+ * - Singleton pattern to ensure a single instance
+ *
+ */
+
+package com.example.theotherside;
+
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+
+/**
+ * Process-wide holder of the game loop's looper threads. FrameSchedulers post
+ * their frame callbacks and tasks to these loopers; when nothing is scheduled
+ * the threads sleep in their message queue.
+ */
+public class GameLoopExecutor {
+    private static GameLoopExecutor instance;
+
+    private final HandlerThread simulationThread;
+    private final HandlerThread renderThread;
+
+    /**
+     * Private constructor that starts both looper threads.
+     * The renderer gets urgent display priority since it feeds the compositor directly.
+     */
+    private GameLoopExecutor() {
+        simulationThread = new HandlerThread("GameSim", Process.THREAD_PRIORITY_DISPLAY);
+        simulationThread.start();
+        renderThread = new HandlerThread("GameRender", Process.THREAD_PRIORITY_URGENT_DISPLAY);
+        renderThread.start();
+    }
+
+    /**
+     * Returns the singleton instance of GameLoopExecutor, starting its threads on first use.
+     *
+     * @return The GameLoopExecutor instance
+     */
+    public static synchronized GameLoopExecutor getInstance() {
+        if (instance == null) {
+            instance = new GameLoopExecutor();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the looper of the thread that runs the simulation.
+     *
+     * @return The simulation looper
+     */
+    public Looper getSimulationLooper() {
+        return simulationThread.getLooper();
+    }
+
+    /**
+     * Returns the looper of the thread that renders frames.
+     *
+     * @return The render looper
+     */
+    public Looper getRenderLooper() {
+        return renderThread.getLooper();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file contains the GameProgress class which stores the player's progress
+ * between sessions in the "GamePrefs" shared preferences.
+ *
+ * The class manages:
+ * - The high score
+ * - The total number of coins collected
+ *
+ */
+
+package com.example.theotherside;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+/**
+ * Saved progress of the player. Writes are applied asynchronously.
+ */
+public class GameProgress {
+    private static final String KEY_HIGH_SCORE = "highScore";
+    private static final String KEY_COIN_COUNT = "coinCount";
+
+    private final SharedPreferences prefs;
+
+    /**
+     * Creates the progress store. Use GameApplication.getProgress() instead.
+     *
+     * @param context - The application context
+     */
+    GameProgress(Context context) {
+        prefs = context.getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
+    }
+
+    public int getHighScore() {
+        return prefs.getInt(KEY_HIGH_SCORE, 0);
+    }
+
+    public int getCoinCount() {
+        return prefs.getInt(KEY_COIN_COUNT, 0);
+    }
+
+    /**
+     * Saves the high score if the new score is greater than the stored high score.
+     *
+     * @param newScore - The new score to compare with the stored high score
+     */
+    public void saveHighScore(int newScore) {
+        if (newScore > getHighScore()) {
+            prefs.edit().putInt(KEY_HIGH_SCORE, newScore).apply();
+        }
+    }
+
+    /**
+     * Adds coins to the stored coin count.
+     *
+     * @param coins - The number of coins collected in the current session
+     */
+    public void addCoins(int coins) {
+        prefs.edit().putInt(KEY_COIN_COUNT, getCoinCount() + coins).apply();
+    }
+}
@@ -1,13 +1,19 @@
 /*
- * This file contains the GameView class which serves as the main game engine
- * and rendering surface for the game. It handles game logic, object management,
- * collision detection, score tracking, and user input processing.
+ * This file contains the GameView class which serves as the rendering surface
+ * for the game. It runs the engine's GameWorld on a simulation thread, draws it
+ * on a render thread, and turns game events and user input into sounds, saved
+ * data and moves.
  *
  * The class manages:
- * - Game loop and timing
- * - Object spawning and updates
- * - Collision detection
- * - Score tracking
+ * - Game loop, vsync-paced frame timing and fixed-timestep simulation
+ * - Separate simulation and render threads joined by a lock-free snapshot handoff
+ * - Surface lifecycle and on-demand redraws while nothing is moving
+ * - A texture atlas of all sprites and icons, with batched sprite drawing
+ * - Per-phase frame timing histograms, written to app storage after each run
+ * - Selectable render frame rate (native, 60 fps, 30 fps power saver)
+ * - Game time through an injectable, pause-aware GameClock
+ * - Sprite bitmaps for the engine's game objects
+ * - Sounds, HUD values and saved data for game events
  * - Touch input and swipe detection
  * - Game state management
  * - Rendering of all game elements
@@ -17,72 +23,114 @@
 package com.example.theotherside;
 
 import android.app.Activity;
+import android.app.ActivityManager;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.RectF;
-import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.view.MotionEvent;
+import android.view.Surface;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
-
-import androidx.core.content.ContextCompat;
-
-import java.util.ArrayList;
-import java.util.Iterator;
+import android.view.WindowManager;
+
+import com.example.theotherside.engine.Entities;
+import com.example.theotherside.engine.FixedTimestep;
+import com.example.theotherside.engine.GameClock;
+import com.example.theotherside.engine.GameObject;
+import com.example.theotherside.engine.GameWorld;
+import com.example.theotherside.engine.Sprite;
+import com.example.theotherside.engine.SystemGameClock;
+import com.example.theotherside.engine.WorldConfig;
+
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.Random;
 
 /**
- * Main game view class that handles the game loop, rendering, and game logic.
- * Implements Runnable to run the game loop in a separate thread and extends
- * SurfaceView for efficient rendering.
+ * Main game view class that handles the game loop and rendering of a GameWorld.
+ * The simulation and the rendering each run on their own vsync-paced thread; the
+ * simulation publishes a FrameSnapshot after every frame and the renderer always
+ * draws the latest one. While the game is paused, over or between countdown steps
+ * both loops park and only redraw on demand. Extends SurfaceView for efficient
+ * rendering and implements SurfaceHolder.Callback to stop drawing without a surface.
  */
-public class GameView extends SurfaceView implements Runnable {
-    private long gameStartTime;
-    private float distanceTraveled;
+public class GameView extends SurfaceView implements SurfaceHolder.Callback, GameWorld.Listener {
+
     private int currentScore;
-    private static final float BASE_SPEED = 0.2f;
 
-    private Thread gameThread;
+    private FrameScheduler simScheduler;
+    private FrameScheduler renderScheduler;
+    private TripleBuffer<FrameSnapshot> snapshots;
+    private FrameRateMode frameRateMode = FrameRateMode.NATIVE;
+    private float displayRefreshRate;
+    private FixedTimestep timestep;
+    private GameClock clock;
+    private long lastClockNanos;
+    private static final int DEFAULT_TICK_RATE = 60;
+    private static final int LOW_END_TICK_RATE = 30;
     private SurfaceHolder holder;
-    private boolean isPlaying;
-    private boolean isGameOver;
+    private volatile boolean isGameOver;
+    private boolean isResumed; // UI thread only
+    private final Object surfaceLock = new Object();
+    private boolean hasSurface; // guarded by surfaceLock
+    private volatile boolean needsRedraw;
+    private final FrameStats frameStats;
+    private long lastRenderFrameNanos; // render thread only
+    // Frame stats hand-off at the end of a run: simulation thread, then render, then simulation
+    private final Runnable endSimulationStatsTask = this::endSimulationStats;
+    private final Runnable endRenderStatsTask = this::endRenderStats;
+    private final Supplier<String> frameStatsSettings = this::describeFrameLoop;
+
+    private static final String GAME_OVER_TEXT = "GAME OVER";
+    private static final String GAME_PAUSED_TEXT = "GAME PAUSED";
 
     private Paint paint;
-    private Canvas canvas;
+    // Overlay drawing state, set up once so drawing a frame allocates nothing
+    private Paint overlayPaint, messagePaint;
+    private RectF overlayArea;
+    private float gameOverTextX, gamePausedTextX;
     private Bitmap backgroundBitmap;
     private HUD hud;
-    private long lastChickenLaneCartTime = 0;
-    private static final long FORCE_SPAWN_TIMEOUT = 5000;
-
 
-    private Chicken chicken;
-    private ArrayList<Cart> carts;
-    private ArrayList<Coin> coins;
+    private GameWorld world;
+    private TextureAtlas atlas; // regions 0..n-1 are the sprites in Sprite order
+    private SpriteBatch spriteBatch; // render thread only
 
     private int screenWidth, screenHeight;
-    private int score;
-    private long lastCartTime, lastCoinTime;
-    private int cartFrequency = 1000; // milliseconds
-    private int coinFrequency = 2000; // milliseconds
-    private int coinsCollected;
+    // Maps the game's fixed screen size onto the current surface; guarded by surfaceLock
+    private float viewScale = 1f, viewOffsetX, viewOffsetY;
+    private final RunCoins runCoins = new RunCoins();
     private int laneCount = 4;
-    private Random random;
     private float touchStartX;
     private float touchStartY;
     private static final int MIN_SWIPE_DISTANCE = 100;
-    private Bitmap reloadIcon, homeIcon;
+    private int reloadIcon, homeIcon; // atlas regions
     private RectF reloadButtonArea, homeButtonArea;
-    private float baseSpeed = 5f;
-    private float speedMultiplier = 1.0f;
-    private static final float SPEED_INCREASE_PER_MINUTE = 0.5f;
-    private static final float MAX_SPEED = 30f;
-    private int lastSpeedFloor = 1;
+
+    // Tasks posted from touch input, created once so input allocates nothing
+    private final Runnable togglePauseTask = simulationTask(() -> {
+        if (!isGameOver) {
+            hud.togglePause();
+        }
+    });
+    private final Runnable resetGameTask = simulationTask(this::resetGame);
+    private final Runnable swipeLeftTask = simulationTask(() -> {
+        if (!isGameOver) {
+            world.moveChickenLeft();
+            SoundManager.getInstance(getContext()).playJumpSound();
+        }
+    });
+    private final Runnable swipeRightTask = simulationTask(() -> {
+        if (!isGameOver) {
+            world.moveChickenRight();
+            SoundManager.getInstance(getContext()).playJumpSound();
+        }
+    });
 
 
     /**
@@ -93,343 +141,415 @@ public class GameView extends SurfaceView implements Runnable {
      * @param screenHeight - The height of the game screen
      */
     public GameView(Context context, int screenWidth, int screenHeight) {
+        this(context, screenWidth, screenHeight, new SystemGameClock());
+    }
+
+    /**
+     * Creates a new game view that reads all game time from the given clock.
+     *
+     * @param context - The application context
+     * @param screenWidth - The width of the game screen
+     * @param screenHeight - The height of the game screen
+     * @param clock - The clock used for spawning, speed progression and the countdown
+     */
+    public GameView(Context context, int screenWidth, int screenHeight, GameClock clock) {
         super(context);
 
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
+        this.clock = clock;
+        frameStats = GameApplication.from(context).getFrameStats();
 
         holder = getHolder();
+        holder.addCallback(this);
         paint = new Paint();
-        random = new Random();
 
-        // Load background bitmap
-        backgroundBitmap = BitmapFactory.decodeResource(getResources(), R.drawable.road);
-        if(backgroundBitmap == null) {
-            throw new RuntimeException("did not load road bitmap");
+        // Pace both the simulation and the rendering against the display's vsync
+        WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        displayRefreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+        GameLoopExecutor loopExecutor = GameLoopExecutor.getInstance();
+        simScheduler = new FrameScheduler("GameSim", loopExecutor.getSimulationLooper(),
+                this::simulateFrame, displayRefreshRate);
+        renderScheduler = new FrameScheduler("GameRender", loopExecutor.getRenderLooper(),
+                this::renderFrame, displayRefreshRate);
+        snapshots = new TripleBuffer<>(new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot());
+
+        // Look up every sprite before the countdown starts; they are decoded once per
+        // process and shared, so spawning and restarting never decode a PNG. The
+        // activity only creates the view once the preloader has decoded them.
+        SpriteCache spriteCache = SpriteCache.getInstance(context);
+        Bitmap[] sprites = new Bitmap[Sprite.values().length];
+        sprites[Sprite.CHICKEN.ordinal()] = spriteCache.get(R.drawable.chicken);
+        sprites[Sprite.COIN.ordinal()] = spriteCache.get(R.drawable.coin);
+        sprites[Sprite.CART_NO_HAY.ordinal()] = spriteCache.get(R.drawable.cart_nohay);
+        sprites[Sprite.CART_HAY.ordinal()] = spriteCache.get(R.drawable.cart_hay);
+
+        // Pack the sprites first, so a sprite's atlas region is its Sprite ordinal
+        TextureAtlas.Builder atlasBuilder = new TextureAtlas.Builder();
+        WorldConfig config = new WorldConfig(screenWidth, screenHeight, laneCount);
+        for (Sprite sprite : Sprite.values()) {
+            Bitmap bitmap = sprites[sprite.ordinal()];
+            atlasBuilder.add(bitmap);
+            config.setSpriteSize(sprite, bitmap.getWidth(), bitmap.getHeight());
         }
-        backgroundBitmap = Bitmap.createScaledBitmap(backgroundBitmap, screenWidth,
-                screenHeight, false);
+        world = new GameWorld(config, clock, new Random());
+        world.setListener(this);
+
+        // Simulate at a fixed tick rate, lower on low-end devices to save CPU
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        setTickRate(activityManager.isLowRamDevice() ? LOW_END_TICK_RATE : DEFAULT_TICK_RATE);
+
+        // Load background bitmap; the sprites are copied into the atlas, so only it stays
+        // pinned, under this view until the activity releases it
+        backgroundBitmap = spriteCache.getBackground(this, R.drawable.road, screenWidth, screenHeight);
         // Initialize HUD
-        hud = new HUD(context, screenWidth, screenHeight);
+        hud = new HUD(context, screenWidth, screenHeight, clock);
+        hud.addIcons(atlasBuilder);
+
+        int iconSize = getIconSize(screenWidth);
+        reloadIcon = atlasBuilder.add(spriteCache.getVector(R.drawable.ic_reload, iconSize, iconSize));
+        homeIcon = atlasBuilder.add(spriteCache.getVector(R.drawable.ic_home, iconSize, iconSize));
+
+        // All in-game sprites and icons are drawn from one texture
+        atlas = atlasBuilder.build();
+        spriteBatch = new SpriteBatch(atlas);
+        hud.setAtlas(atlas);
 
         // Initialize game objects
         resetGame();
 
-        reloadIcon = getBitmapFromVector(R.drawable.ic_reload, screenWidth);
-        homeIcon = getBitmapFromVector(R.drawable.ic_home, screenWidth);
+        // button areas for touch detection, shared by the game over and pause overlays
+        float iconY = screenHeight / 2 + 150;
+        float padding = screenWidth * 0.1f;
+        float reloadX = (screenWidth / 2) - padding - atlas.getRegionWidth(reloadIcon);
+        float homeX = (screenWidth / 2) + padding;
+        reloadButtonArea = new RectF(reloadX, iconY,
+                reloadX + atlas.getRegionWidth(reloadIcon), iconY + atlas.getRegionHeight(reloadIcon));
+        homeButtonArea = new RectF(homeX, iconY,
+                homeX + atlas.getRegionWidth(homeIcon), iconY + atlas.getRegionHeight(homeIcon));
+
+        // Game over and pause overlays
+        overlayPaint = new Paint();
+        overlayPaint.setColor(Color.argb(200, 0, 0, 0));
+        overlayArea = new RectF(0, screenHeight/2 - 150, screenWidth, screenHeight/2 + 400);
+        messagePaint = new Paint();
+        messagePaint.setColor(Color.RED);
+        messagePaint.setTextSize(100);
+        gameOverTextX = (screenWidth - messagePaint.measureText(GAME_OVER_TEXT)) / 2;
+        gamePausedTextX = (screenWidth - messagePaint.measureText(GAME_PAUSED_TEXT)) / 2;
+
+        publishSnapshot(1f);
     }
 
-    private Bitmap getBitmapFromVector(int vectorResId, int screenWidth) {
-        Drawable vectorDrawable = ContextCompat.getDrawable(getContext(), vectorResId);
-        int iconSize = (int) (screenWidth * 0.15);
-
-        Bitmap bitmap = Bitmap.createBitmap(iconSize, iconSize, Bitmap.Config.ARGB_8888);
-        Canvas canvas = new Canvas(bitmap);
-        vectorDrawable.setBounds(0, 0, canvas.getWidth(), canvas.getHeight());
-        vectorDrawable.draw(canvas);
+    /**
+     * Loads every bitmap the game view looks up into the sprite cache. Safe to call
+     * from a background thread.
+     *
+     * @param context - The application context
+     * @param screenWidth - The width of the game screen
+     * @param screenHeight - The height of the game screen
+     */
+    static void preload(Context context, int screenWidth, int screenHeight) {
+        SpriteCache spriteCache = SpriteCache.getInstance(context);
+        spriteCache.preload(R.drawable.chicken, R.drawable.coin,
+                R.drawable.cart_nohay, R.drawable.cart_hay);
+        spriteCache.getBackground(R.drawable.road, screenWidth, screenHeight);
+        int iconSize = getIconSize(screenWidth);
+        spriteCache.getVector(R.drawable.ic_reload, iconSize, iconSize);
+        spriteCache.getVector(R.drawable.ic_home, iconSize, iconSize);
+        HUD.preload(spriteCache);
+    }
 
-        return bitmap;
+    /**
+     * Returns the size of the reload and home icons, which scales with the screen.
+     */
+    private static int getIconSize(int screenWidth) {
+        return (int) (screenWidth * 0.15);
     }
 
     /**
-     * Resets the game state to initial values.
-     * Creates new game objects and resets score and timers.
+     * Sets the number of simulation ticks per second. Movement is scaled per tick
+     * so gameplay speed is the same at every tick rate.
+     *
+     * @param tickRate - The simulation tick rate in Hz
      */
-    private void resetGame() {
-        chicken = new Chicken(getContext(), screenWidth, screenHeight, laneCount);
-        carts = new ArrayList<>();
-        coins = new ArrayList<>();
-        score = 0;
-        hud.setScore(0); // Reset HUD score
-        isGameOver = false;
-        lastCartTime = lastCoinTime = System.currentTimeMillis();
+    public void setTickRate(int tickRate) {
+        timestep = new FixedTimestep(tickRate);
+        world.setTickRate(tickRate);
 
-        gameStartTime = System.currentTimeMillis();
-        distanceTraveled = 0f;
+        // The simulation has nothing to do between ticks, so don't wake it more often
+        simScheduler.setTargetFrameRate(tickRate);
+    }
 
-        // Start countdown when game is reset
-        hud.startCountdown();
-        lastSpeedFloor = 1;
+    /**
+     * Sets the render frame rate. The simulation keeps its own tick rate, so under
+     * load or in the power saver the renderer skips vsyncs while gameplay runs on.
+     *
+     * @param mode - The frame rate mode to render at
+     * @param refreshRate - The refresh rate the display is (or is switching to) running at
+     */
+    public void setFrameRateMode(FrameRateMode mode, float refreshRate) {
+        frameRateMode = mode;
+        displayRefreshRate = refreshRate;
+
+        simScheduler.setRefreshRate(refreshRate);
+        simScheduler.setTargetFrameRate(timestep.getTickRate());
+        renderScheduler.setRefreshRate(refreshRate);
+        renderScheduler.setTargetFrameRate(mode.getTargetFps(refreshRate));
+        applySurfaceFrameRate();
     }
 
     /**
-     * Main game loop that updates game state and renders the game.
+     * Tells the compositor which frame rate the surface renders at, so the display
+     * can pick a matching refresh rate (API 30+).
      */
-    @Override
-    public void run() {
-        while (isPlaying) {
-            // Only update if not paused and not counting down
-            if (!hud.isPaused() && !hud.isCountingDown()) {
-                update();
+    private void applySurfaceFrameRate() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            Surface surface = holder.getSurface();
+            if (surface.isValid()) {
+                surface.setFrameRate(frameRateMode.getTargetFps(displayRefreshRate),
+                        Surface.FRAME_RATE_COMPATIBILITY_DEFAULT);
             }
-
-            // Always update the countdown if it's active
-            hud.updateCountdown();
-
-            // Always draw, even when paused
-            draw();
-            control();
         }
     }
 
     /**
-     * Updates the game state including object positions,
-     * collision detection, and object spawning.
+     * Resets the game state to initial values in place. The world, HUD, atlas and
+     * bitmaps are all kept, so a restart costs no decoding and no allocation.
      */
-    private void update() {
-        if (!isGameOver && !hud.isPaused() && !hud.isCountingDown()) {
-            long currentTime = System.currentTimeMillis();
-
-            // Make speed increase more gradual - change 3000 to 10000 or higher
-            // for slower progression
-            float elapsedTime = (currentTime - gameStartTime) / 8000.0f;
+    private void resetGame() {
+        world.reset();
+        runCoins.startRun();
+        hud.setScore(0); // Reset HUD score
+        hud.setDistance(0f);
+        hud.setCoins(0);
+        isGameOver = false;
 
-            // Reduce this constant for smoother progression
-            speedMultiplier = 1.0f + (SPEED_INCREASE_PER_MINUTE * 0.2f * elapsedTime);
+        // Start countdown when game is reset
+        hud.startCountdown();
+    }
 
-            // maximum speed
-            if (baseSpeed * speedMultiplier > MAX_SPEED) {
-                speedMultiplier = MAX_SPEED / baseSpeed;
+    /**
+     * Runs one simulation frame on the simulation thread for a display vsync.
+     * Updates game state and publishes a snapshot for the render thread.
+     *
+     * @param frameTimeNanos - The vsync timestamp of this frame
+     * @param frameBudgetNanos - Time remaining until the next vsync deadline
+     */
+    private void simulateFrame(long frameTimeNanos, long frameBudgetNanos) {
+        long startNanos = System.nanoTime();
+        frameStats.simCallback.record(startNanos - frameTimeNanos);
+
+        // Simulated time follows the game clock, so it stops while paused and honours the time scale
+        long clockNanos = clock.nanoTime();
+        long elapsedNanos = clockNanos - lastClockNanos;
+        lastClockNanos = clockNanos;
+
+        boolean isSimulating = !hud.isPaused() && !hud.isCountingDown() && !isGameOver;
+
+        // Only update if not paused and not counting down
+        float alpha = 1f;
+        if (!hud.isPaused() && !hud.isCountingDown()) {
+            // Run as many fixed ticks as the elapsed time covers
+            int ticks = timestep.advance(elapsedNanos);
+            long ticksStartNanos = System.nanoTime();
+            for (int i = 0; i < ticks && !world.isGameOver(); i++) {
+                world.savePreviousPositions();
+                world.tick();
             }
-
-            // play sound when speed increases by 1.0
-            int currentFloor = (int) speedMultiplier;
-            if (currentFloor > lastSpeedFloor) {
-                SoundManager.getInstance(getContext()).powerUpSound();
-                lastSpeedFloor = currentFloor;
+            if (ticks > 0) {
+                frameStats.simTicks.record(System.nanoTime() - ticksStartNanos);
             }
-
-            distanceTraveled = ((currentTime - gameStartTime) * BASE_SPEED);
-            hud.setDistance(distanceTraveled); // update HUD
-        }
-
-        if (isGameOver) {
-            return;
+            alpha = timestep.getAlpha();
+            hud.setDistance(world.getDistanceTraveled());
+            hud.setScore(world.getDistanceTraveled());
+        } else {
+            timestep.reset();
         }
 
-        long currentTime = System.currentTimeMillis();
+        // Always update the countdown if it's active
+        boolean countdownChanged = hud.updateCountdown();
 
-        // Generate carts with guaranteed escape path
-        if (currentTime - lastCartTime > cartFrequency) {
-            // Create a map to track danger zones in each lane
-            boolean[] laneDanger = new boolean[laneCount];
-
-            // Track how far down the screen carts have traveled in each lane
-            float[] laneCartProgress = new float[laneCount];
-            for (int i = 0; i < laneCount; i++) {
-                laneCartProgress[i] = screenHeight; // Initialize to screen bottom
-            }
-
-            // Check existing carts to determine danger zones
-            // A lane is dangerous if a cart is in the top 70% of the screen
-            for (Cart cart : carts) {
-                if (cart.posY < screenHeight * 0.7) {
-                    int cartLane = getLaneFromX(cart.posX, cart.width);
-                    if (cartLane >= 0 && cartLane < laneCount) {
-                        laneDanger[cartLane] = true;
-                        laneCartProgress[cartLane] = Math.min(laneCartProgress[cartLane], cart.posY);
-                    }
-                }
-            }
-
-            // Get the lane the chicken is currently in
-            int chickenLane = getLaneFromX(chicken.posX, chicken.width);
-
-            // Force spawn after timeout
-            boolean forceSpawnInChickenLane = false;
-            if (currentTime - lastChickenLaneCartTime > FORCE_SPAWN_TIMEOUT) {
-                forceSpawnInChickenLane = true;
-            }
-            if (forceSpawnInChickenLane) {
-                // Force spawn in the chicken's lane after timeout
-                Cart newCart = new Cart(getContext(), screenWidth, screenHeight,
-                        laneCount, random.nextInt(10), chickenLane);
-                carts.add(newCart);
-                lastCartTime = currentTime;
-                lastChickenLaneCartTime = currentTime; // Reset timeout
-            }
+        // Nothing moves while paused or after game over, so only publish when something changed
+        if (isSimulating || countdownChanged || needsRedraw) {
+            needsRedraw = false;
+            publishSnapshot(alpha);
+        }
 
-            // Identify possible escape lanes
-            ArrayList<Integer> escapeLanes = new ArrayList<>();
-            for (int i = 0; i < laneCount; i++) {
-                // A lane is an escape lane if:
-                // 1. It's not dangerous, OR
-                // 2. The danger is far enough away to escape to another lane
-                if (!laneDanger[i] || laneCartProgress[i] > screenHeight * 0.4) {
-                    escapeLanes.add(i);
-                }
-            }
+        // Park the simulation when there is nothing to tick; posted input wakes it up.
+        // A countdown paused by the player is frozen, so it doesn't keep the loop running
+        simScheduler.setContinuous(isSimulating || (hud.isCountingDown() && !hud.isPaused()));
+        frameStats.simFrame.record(System.nanoTime() - startNanos);
+    }
 
-            // If there's only one escape lane and it's not the chicken's lane, don't spawn a cart there
-            if (escapeLanes.size() == 1 && escapeLanes.get(0) != chickenLane) {
-                int onlyEscapeLane = escapeLanes.get(0);
+    /**
+     * Runs a state-changing task on the simulation thread and redraws afterwards.
+     *
+     * @param task - The task to run
+     */
+    private void postToSimulation(Runnable task) {
+        simScheduler.post(simulationTask(task));
+    }
 
-                // Choose from lanes other than the only escape lane
-                ArrayList<Integer> spawnLanes = new ArrayList<>();
-                for (int i = 0; i < laneCount; i++) {
-                    if (i != onlyEscapeLane && (laneCartProgress[i] > screenHeight * 0.3)) {
-                        spawnLanes.add(i);
-                    }
-                }
+    /**
+     * Wraps a state-changing task so it redraws after it ran on the simulation
+     * thread. Tasks posted often are wrapped once and kept in a field.
+     *
+     * @param task - The task to wrap
+     * @return The task to post to the simulation scheduler
+     */
+    private Runnable simulationTask(Runnable task) {
+        return () -> {
+            task.run();
+            needsRedraw = true;
+        };
+    }
 
-                // Only spawn a cart if there's a valid lane
-                if (!spawnLanes.isEmpty()) {
-                    int selectedLane = spawnLanes.get(random.nextInt(spawnLanes.size()));
-                    Cart newCart = new Cart(getContext(), screenWidth, screenHeight,
-                            laneCount, random.nextInt(10), selectedLane);
-                    carts.add(newCart);
-                    lastCartTime = currentTime;
-                }
-            }
-            // If there are multiple escape lanes, we can spawn a cart in one
-            else if (escapeLanes.size() > 1) {
-                // Never spawn a cart in the chicken's lane if it's one of several escape lanes
-                if (escapeLanes.contains(chickenLane)) {
-                    escapeLanes.remove(Integer.valueOf(chickenLane));
-                }
+    /**
+     * Copies the current game state into the snapshot write buffer and hands it
+     * to the render thread.
+     *
+     * @param alpha - The interpolation factor left over after the last tick
+     */
+    private void publishSnapshot(float alpha) {
+        FrameSnapshot frame = snapshots.getWriteBuffer();
+        frame.clear();
+        // Pickups below obstacles, the chicken on top
+        frame.addSprites(world.getEntities(), Entities.PICKUP);
+        frame.addSprites(world.getEntities(), Entities.OBSTACLE);
+        addSprite(frame, world.getChicken());
+
+        hud.writeTo(frame);
+        frame.isGameOver = isGameOver;
+        frame.isSimulating = !frame.isPaused && !frame.isCountingDown && !isGameOver;
+        frame.alpha = alpha;
+        frame.clockNanos = lastClockNanos;
+        frame.tickNanos = timestep.getTickNanos();
+        snapshots.publish();
+        renderScheduler.requestFrame();
+    }
 
+    /**
+     * Draws the latest published snapshot on the render thread.
+     *
+     * @param frameTimeNanos - The vsync timestamp of this frame
+     * @param frameBudgetNanos - Time remaining until the next vsync deadline
+     */
+    private void renderFrame(long frameTimeNanos, long frameBudgetNanos) {
+        long startNanos = System.nanoTime();
+        frameStats.renderCallback.record(startNanos - frameTimeNanos);
+
+        // Jitter: how far the time since the previous frame was off the target interval
+        if (lastRenderFrameNanos != 0) {
+            long intervalNanos = frameTimeNanos - lastRenderFrameNanos;
+            frameStats.renderJitter.record(
+                    Math.abs(intervalNanos - renderScheduler.getTargetIntervalNanos()));
+        }
 
-                // Select a random lane from the remaining escape lanes
-                if (!escapeLanes.isEmpty()) {
-                    int selectedLane = escapeLanes.get(random.nextInt(escapeLanes.size()));
-                    Cart newCart = new Cart(getContext(), screenWidth, screenHeight,
-                            laneCount, random.nextInt(10), selectedLane);
-                    carts.add(newCart);
-                    lastCartTime = currentTime;
-                    if (selectedLane == chickenLane) {
-                        lastChickenLaneCartTime = currentTime;
-                    }
-                }
+        FrameSnapshot frame = snapshots.getReadBuffer();
 
+        // Hold the surface lock while drawing so surfaceDestroyed() can wait for this frame
+        synchronized (surfaceLock) {
+            if (hasSurface) {
+                draw(frame);
             }
-            // If there are no escape lanes, don't spawn a cart at all
-            else {
-                lastCartTime = currentTime; // Reset timer
-            }
-
-            // Gradually increase difficulty by reducing spawn time
-            // but keep a minimum threshold to ensure game remains playable
-            cartFrequency = Math.max(1000 - (score * 3), 600);
         }
 
-        // Generate coins with similar logic to ensure they don't block escape paths
-        if (currentTime - lastCoinTime > coinFrequency) {
-            // Don't spawn coins in lanes that already have carts near the top
-            boolean[] laneBusy = new boolean[laneCount];
+        // Only keep drawing every vsync while objects are moving
+        renderScheduler.setContinuous(frame.isSimulating);
 
-            for (Cart cart : carts) {
-                if (cart.posY < screenHeight * 0.4) {
-                    int cartLane = getLaneFromX(cart.posX, cart.width);
-                    if (cartLane >= 0 && cartLane < laneCount) {
-                        laneBusy[cartLane] = true;
-                    }
-                }
-            }
+        // On-demand frames are expected to have gaps, so only measure jitter between continuous ones
+        lastRenderFrameNanos = frame.isSimulating ? frameTimeNanos : 0;
+        frameStats.renderFrame.record(System.nanoTime() - startNanos);
+    }
 
-            // Also check for existing coins
-            for (Coin coin : coins) {
-                if (coin.posY < screenHeight * 0.3) {
-                    int coinLane = getLaneFromX(coin.posX, coin.width);
-                    if (coinLane >= 0 && coinLane < laneCount) {
-                        laneBusy[coinLane] = true;
-                    }
-                }
-            }
+    /**
+     * Hands the simulation frame timings of the run that just ended to the frame
+     * stats. Simulation thread only.
+     */
+    private void endSimulationStats() {
+        frameStats.endSimulationRun(getContext(), frameStatsSettings);
+    }
 
-            // Get chicken's lane
-            int chickenLane = getLaneFromX(chicken.posX, chicken.width);
+    /**
+     * Hands the render frame timings of the run that just ended to the frame
+     * stats. Render thread only.
+     */
+    private void endRenderStats() {
+        lastRenderFrameNanos = 0;
+        frameStats.endRenderRun(getContext(), frameStatsSettings);
+    }
 
-            // Find all available lanes for coins
-            ArrayList<Integer> availableLanes = new ArrayList<>();
-            for (int i = 0; i < laneCount; i++) {
-                if (!laneBusy[i]) {
-                    availableLanes.add(i);
-                }
-            }
+    /**
+     * Describes the loop settings for the frame stats file of a run.
+     */
+    private String describeFrameLoop() {
+        return String.format(Locale.US,
+                "refresh=%.1fHz mode=%s tickRate=%d simMissed=%d renderMissed=%d renderSkippedVsyncs=%d",
+                displayRefreshRate, frameRateMode, timestep.getTickRate(),
+                simScheduler.getMissedDeadlines(), renderScheduler.getMissedDeadlines(),
+                renderScheduler.getSkippedVsyncs());
+    }
 
-            // Spawn coin if there's at least one available lane
-            if (!availableLanes.isEmpty()) {
-                int selectedLane = availableLanes.get(random.nextInt(availableLanes.size()));
-                coins.add(new Coin(getContext(), screenWidth, screenHeight,
-                        laneCount, selectedLane));
-                lastCoinTime = currentTime;
-            } else {
-                lastCoinTime = currentTime; // Reset timer
-            }
-        }
+    /**
+     * Appends a game object to a snapshot with the atlas region of its sprite.
+     *
+     * @param frame - The snapshot to fill
+     * @param object - The game object to draw
+     */
+    private void addSprite(FrameSnapshot frame, GameObject object) {
+        frame.addSprite(object, object.getSprite().ordinal());
+    }
 
-        // Update carts
-        Iterator<Cart> cartIterator = carts.iterator();
-        while (cartIterator.hasNext()) {
-            Cart cart = cartIterator.next();
-            cart.posY += baseSpeed * speedMultiplier;
-            cart.update();
-
-            // Check for collision with chicken
-            if (cart.isColliding(chicken)) {
-                SoundManager.getInstance(getContext()).playCrashSound();
-                isGameOver = true;
-
-                currentScore = Math.round(distanceTraveled/100);
-                saveHighScore(currentScore);
-                saveCoins(coinsCollected);
-            }
+    /**
+     * Plays the crash sound and saves the score and coins of the finished game.
+     * Called on the simulation thread.
+     *
+     * @param finalScore - The score of the finished game
+     * @param coinsCollected - The number of coins collected in the game
+     */
+    @Override
+    public void onCrash(int finalScore, int coinsCollected) {
+        SoundManager.getInstance(getContext()).playCrashSound();
+        isGameOver = true;
 
-            // Remove off-screen carts
-            if (cart.isOffScreen(screenHeight)) {
-                cartIterator.remove();
-            }
-        }
+        currentScore = finalScore;
+        saveHighScore(currentScore);
+        runCoins.setCollected(coinsCollected);
+        saveCoins(runCoins.takeUnsaved());
 
-        // Update coins
-        Iterator<Coin> coinIterator = coins.iterator();
-        while (coinIterator.hasNext()) {
-            Coin coin = coinIterator.next();
-            coin.update();
-            // Check for collision with chicken
-            // when collecting coins:
-            if (coin.isColliding(chicken)) {
-                SoundManager.getInstance(getContext()).playCoinSound();
-                coinsCollected++;
-                hud.setCoins(coinsCollected); // Update HUD
-                coinIterator.remove();
-            }
-            // Remove off-screen coins
-            if (coin.isOffScreen(screenHeight)) {
-                coinIterator.remove();
-            }
-        }
-        // Update HUD score
-        hud.setScore(distanceTraveled);;
+        // Each game gets its own frame stats run
+        endSimulationStats();
+        renderScheduler.post(endRenderStatsTask);
     }
 
     /**
-     * Saves the high score if the new score is greater than the stored high score.
+     * Plays the coin sound and updates the HUD. Called on the simulation thread.
      *
-     * @param newScore - The new score to compare with the stored high score
+     * @param coinsCollected - The number of coins collected so far
      */
-    private void saveHighScore(int newScore) {
-        SharedPreferences prefs = getContext().getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
-        int storedHighScore = prefs.getInt("highScore", 0);
+    @Override
+    public void onCoinCollected(int coinsCollected) {
+        SoundManager.getInstance(getContext()).playCoinSound();
+        runCoins.setCollected(coinsCollected);
+        hud.setCoins(coinsCollected); // Update HUD
+    }
 
-        if (newScore > storedHighScore) {
-            SharedPreferences.Editor editor = prefs.edit();
-            editor.putInt("highScore", newScore);
-            editor.apply();
-        }
+    /**
+     * Plays the power-up sound. Called on the simulation thread.
+     */
+    @Override
+    public void onSpeedUp() {
+        SoundManager.getInstance(getContext()).powerUpSound();
     }
 
     /**
-     * Determines the lane index based on the x position and width of an object.
+     * Saves the high score if the new score is greater than the stored high score.
      *
-     * @param posX - The x position of the object
-     * @param width - The width of the object
-     * @return The lane index where the object is located
+     * @param newScore - The new score to compare with the stored high score
      */
-    private int getLaneFromX(float posX, float width) {
-        float laneWidth = screenWidth / laneCount;
-        float objectCenterX = posX + width / 2;
-        return (int)(objectCenterX / laneWidth);
+    private void saveHighScore(int newScore) {
+        GameApplication.from(getContext()).getProgress().saveHighScore(newScore);
     }
 
     /**
@@ -438,163 +558,212 @@ public class GameView extends SurfaceView implements Runnable {
      * @param numOfCoinsCollected - The number of coins collected in the current session
      */
     private void saveCoins(int numOfCoinsCollected) {
-        SharedPreferences prefs2 = getContext().getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
-        int storedCoinCount = prefs2.getInt("coinCount", 0);
-
-        SharedPreferences.Editor editor = prefs2.edit();
-        editor.putInt("coinCount", numOfCoinsCollected + storedCoinCount);
-        editor.apply();
+        if (numOfCoinsCollected == 0) {
+            return;
+        }
+        GameApplication.from(getContext()).getProgress().addCoins(numOfCoinsCollected);
     }
 
 
     /**
-     * Renders all game elements to the screen.
+     * Renders all game elements in a snapshot to the screen.
      * Includes background, game objects, score, and game over message.
+     *
+     * @param frame - The snapshot to draw
      */
-    private void draw() {
+    private void draw(FrameSnapshot frame) {
         if (holder.getSurface().isValid()) {
-            canvas = holder.lockCanvas();
+            long lockStartNanos = System.nanoTime();
+            // A hardware canvas draws on the GPU, where the atlas saves texture switches
+            Canvas canvas = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                    ? holder.lockHardwareCanvas() : holder.lockCanvas();
+            if (canvas == null) {
+                return;
+            }
+            long drawStartNanos = System.nanoTime();
+            frameStats.renderLock.record(drawStartNanos - lockStartNanos);
+
+            // Fit the game into a surface that was resized since the game started
+            boolean letterboxed = viewScale != 1f || viewOffsetX != 0 || viewOffsetY != 0;
+            if (letterboxed) {
+                canvas.drawColor(Color.BLACK);
+                canvas.save();
+                canvas.translate(viewOffsetX, viewOffsetY);
+                canvas.scale(viewScale, viewScale);
+            }
 
             // Draw background
             canvas.drawBitmap(backgroundBitmap, 0, 0, paint);
 
-            // Draw coins
-            for (Coin coin : coins) {
-                coin.draw(canvas);
+            // Draw coins, carts and the chicken between their previous and current tick
+            float alpha = frame.alphaAt(clock.nanoTime());
+            spriteBatch.begin(canvas);
+            for (int i = 0; i < frame.spriteCount; i++) {
+                float drawX = frame.prevX[i] + (frame.posX[i] - frame.prevX[i]) * alpha;
+                float drawY = frame.prevY[i] + (frame.posY[i] - frame.prevY[i]) * alpha;
+                spriteBatch.draw(frame.regions[i], drawX, drawY);
             }
+            spriteBatch.end();
 
-            // Draw carts
-            for (Cart cart : carts) {
-                cart.draw(canvas);
+            // Draw game over or pause message when applicable
+            if (frame.isGameOver) {
+                drawOverlay(canvas, GAME_OVER_TEXT, gameOverTextX);
             }
-
-            // Draw chicken
-            chicken.draw(canvas);
-
-            // Draw game over message when applicable
-            if (isGameOver) {
-                // Semi-transparent overlay
-                paint.setColor(Color.argb(200, 0, 0, 0));
-                canvas.drawRect(0, screenHeight/2 - 150, screenWidth, screenHeight/2 + 400, paint);
-
-                // Game Over text
-                paint.setColor(Color.RED);
-                paint.setTextSize(100);
-                String gameOver = "GAME OVER";
-                float textWidth = paint.measureText(gameOver);
-                canvas.drawText(gameOver, (screenWidth - textWidth) / 2, screenHeight / 2, paint);
-
-                float iconY = screenHeight / 2 + 150;
-                float padding = screenWidth * 0.1f;
-                float reloadX = (screenWidth / 2) - padding - reloadIcon.getWidth();
-                canvas.drawBitmap(reloadIcon, reloadX, iconY, paint);
-                float homeX = (screenWidth / 2) + padding;
-                canvas.drawBitmap(homeIcon, homeX, iconY, paint);
-
-                // button areas for touch detection
-                reloadButtonArea = new RectF(reloadX, iconY,
-                        reloadX + reloadIcon.getWidth(), iconY + reloadIcon.getHeight());
-
-                homeButtonArea = new RectF(homeX, iconY,
-                        homeX + homeIcon.getWidth(), iconY + homeIcon.getHeight());
-
-
+            if (frame.isPaused) {
+                drawOverlay(canvas, GAME_PAUSED_TEXT, gamePausedTextX);
             }
 
-            if (hud.isPaused()) {
-                // Semi-transparent overlay
-                paint.setColor(Color.argb(200, 0, 0, 0));
-                canvas.drawRect(0, screenHeight/2 - 150, screenWidth, screenHeight/2 + 400, paint);
-
-                // Pause text
-                paint.setColor(Color.RED);
-                paint.setTextSize(100);
-                String gamePaused = "GAME PAUSED";
-                float textWidth = paint.measureText(gamePaused);
-                canvas.drawText(gamePaused, (screenWidth - textWidth) / 2, screenHeight / 2, paint);
-
-                float iconY = screenHeight / 2 + 150;
-                float padding = screenWidth * 0.1f;
-                float reloadX = (screenWidth / 2) - padding - reloadIcon.getWidth();
-                canvas.drawBitmap(reloadIcon, reloadX, iconY, paint);
-                float homeX = (screenWidth / 2) + padding;
-                canvas.drawBitmap(homeIcon, homeX, iconY, paint);
-
-                // button areas for touch detection
-                reloadButtonArea = new RectF(reloadX, iconY,
-                        reloadX + reloadIcon.getWidth(), iconY + reloadIcon.getHeight());
+            // Draw HUD on top of everything (after game over overlay if present)
+            hud.draw(canvas, frame);
+            if (letterboxed) {
+                canvas.restore();
+            }
 
-                homeButtonArea = new RectF(homeX, iconY,
-                        homeX + homeIcon.getWidth(), iconY + homeIcon.getHeight());
+            long postStartNanos = System.nanoTime();
+            frameStats.renderDraw.record(postStartNanos - drawStartNanos);
+            holder.unlockCanvasAndPost(canvas);
+            frameStats.renderPost.record(System.nanoTime() - postStartNanos);
+        }
+    }
 
+    /**
+     * Draws a message on a semi-transparent band with the reload and home
+     * buttons below it. All geometry and text widths were computed up front.
+     *
+     * @param canvas - The canvas to draw on
+     * @param message - The message to show
+     * @param messageX - The x position that centres the message
+     */
+    private void drawOverlay(Canvas canvas, String message, float messageX) {
+        canvas.drawRect(overlayArea, overlayPaint);
+        canvas.drawText(message, messageX, screenHeight / 2, messagePaint);
+        atlas.draw(canvas, reloadIcon, reloadButtonArea.left, reloadButtonArea.top, paint);
+        atlas.draw(canvas, homeIcon, homeButtonArea.left, homeButtonArea.top, paint);
+    }
 
-            }
+    /**
+     * Called when the drawing surface is created. Starts the render loop if the game is resumed.
+     *
+     * @param holder - The holder whose surface was created
+     */
+    @Override
+    public void surfaceCreated(SurfaceHolder holder) {
+        synchronized (surfaceLock) {
+            hasSurface = true;
+        }
+        applySurfaceFrameRate();
+        updateRenderLoop();
+    }
 
-            // Draw HUD on top of everything (after game over overlay if present)
-            hud.draw(canvas);
+    /**
+     * Called when the surface size or format changes, for example when the window
+     * is resized in multi-window mode or the device is folded. The game keeps the
+     * screen size it was started with and is scaled to fit the new surface, centred,
+     * so the running game and its bitmaps survive the change. Redraws the current frame.
+     *
+     * @param holder - The holder whose surface changed
+     * @param format - The new pixel format
+     * @param width - The new surface width
+     * @param height - The new surface height
+     */
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+        float scale = Math.min((float) width / screenWidth, (float) height / screenHeight);
+        synchronized (surfaceLock) {
+            viewScale = scale;
+            viewOffsetX = (width - screenWidth * scale) / 2f;
+            viewOffsetY = (height - screenHeight * scale) / 2f;
+        }
+        renderScheduler.requestFrame();
+    }
 
-            holder.unlockCanvasAndPost(canvas);
+    /**
+     * Called before the surface is destroyed. Stops the render loop, which must
+     * not touch the surface once this method returns. At most waits for the
+     * frame currently being drawn.
+     *
+     * @param holder - The holder whose surface is being destroyed
+     */
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {
+        synchronized (surfaceLock) {
+            hasSurface = false;
         }
+        updateRenderLoop();
     }
 
     /**
-     * Controls the game loop timing to maintain approximately 60 FPS.
+     * Runs the render loop only while the game is resumed and a surface exists.
      */
-    private void control() {
-        try {
-            Thread.sleep(17); // ~60 FPS
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+    private void updateRenderLoop() {
+        boolean surfaceAvailable;
+        synchronized (surfaceLock) {
+            surfaceAvailable = hasSurface;
+        }
+        if (isResumed && surfaceAvailable) {
+            renderScheduler.start();
+        } else {
+            renderScheduler.stop();
         }
     }
 
     /**
-     * Pauses the game loop, saves game state and stops the game thread.
+     * Pauses the game loop, saves game state, stops the game clock and signals both
+     * frame schedulers to stop. Does not wait for the game loop threads. Each
+     * thread ends its frame stats run right after its last frame: the tasks are
+     * queued before anything a later resume() posts, so they always run before
+     * the loops start again.
      */
     public void pause() {
-        isPlaying = false;
-        saveCoins(coinsCollected);
-        saveHighScore(currentScore);
-
-        try {
-            gameThread.join();
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        isResumed = false;
+        updateRenderLoop();
+        renderScheduler.post(endRenderStatsTask);
+        simScheduler.stop();
+        simScheduler.post(endSimulationStatsTask);
+        clock.pause();
+        // onCrash() already saved a finished run; a run in progress saves what it has so far
+        if (!isGameOver) {
+            saveCoins(runCoins.takeUnsaved());
         }
+        saveHighScore(currentScore);
     }
 
     /**
-     * Resumes the game loop and starts the game thread.
+     * Resumes the game clock (unless the player paused the game) and signals the
+     * frame schedulers to start again.
      */
     public void resume() {
-        isPlaying = true;
-        gameThread = new Thread(this);
-        gameThread.start();
+        if (!hud.isPaused()) {
+            clock.resume();
+        }
+        isResumed = true;
+        postToSimulation(() -> {
+            // Don't count the time spent paused as simulation time
+            lastClockNanos = clock.nanoTime();
+            timestep.reset();
+        });
+        simScheduler.start();
+        updateRenderLoop();
     }
 
     /**
      * Handles right swipe gesture by moving the chicken right.
      */
     public void onSwipeRight() {
-        if (!isGameOver) {
-            chicken.moveRight();
-            SoundManager.getInstance(getContext()).playJumpSound();
-        }
+        simScheduler.post(swipeRightTask);
     }
 
     /**
      * Handles left swipe gesture by moving the chicken left.
      */
     public void onSwipeLeft() {
-        SoundManager.getInstance(getContext()).playJumpSound();
-        if (!isGameOver) {
-            chicken.moveLeft();
-        }
+        simScheduler.post(swipeLeftTask);
     }
 
     /**
      * Processes touch events for game control.
-     * Handles swipe gestures and game restart on game over.
+     * Handles swipe gestures and game restart on game over. Anything that changes
+     * game state is posted to the simulation thread.
      *
      * @param event - The motion event to process
      * @return true if the event was handled, false otherwise
@@ -603,23 +772,21 @@ public class GameView extends SurfaceView implements Runnable {
     public boolean onTouchEvent(MotionEvent event) {
         switch (event.getAction()) {
             case MotionEvent.ACTION_DOWN:
-                touchStartX = event.getX();
-                touchStartY = event.getY();
+                touchStartX = toGameX(event.getX());
+                touchStartY = toGameY(event.getY());
 
                 // Check if the pause/play button was pressed
                 if (hud.checkButtonPress(touchStartX, touchStartY)) {
-                    if (!isGameOver) {
-                        hud.togglePause();
-                    }
+                    simScheduler.post(togglePauseTask);
                     return true;
                 }
 
                 if (isGameOver || hud.isPaused()) {
-                    if (reloadButtonArea != null && reloadButtonArea.contains(touchStartX, touchStartY)) {
-                        resetGame();
+                    if (reloadButtonArea.contains(touchStartX, touchStartY)) {
+                        simScheduler.post(resetGameTask);
                         return true;
                     }
-                    else if (homeButtonArea != null && homeButtonArea.contains(touchStartX, touchStartY)) {
+                    else if (homeButtonArea.contains(touchStartX, touchStartY)) {
                         // return to high score screen(home)
                         getContext().startActivity(new Intent(getContext(), ScreenHighScore.class));
                         ((Activity) getContext()).finish();
@@ -631,8 +798,8 @@ public class GameView extends SurfaceView implements Runnable {
             case MotionEvent.ACTION_UP:
                 // Don't process swipes if the game is paused, counting down, or game over
                 if (!hud.isPaused() && !hud.isCountingDown() && !isGameOver) {
-                    float touchEndX = event.getX();
-                    float touchEndY = event.getY();
+                    float touchEndX = toGameX(event.getX());
+                    float touchEndY = toGameY(event.getY());
 
                     // Calculate the difference
                     float diffX = touchEndX - touchStartX;
@@ -640,19 +807,26 @@ public class GameView extends SurfaceView implements Runnable {
 
                     // Check if the gesture was a horizontal swipe
                     if (Math.abs(diffX) > Math.abs(diffY) && Math.abs(diffX) > MIN_SWIPE_DISTANCE) {
-                        if (diffX > 0) {
-                            // Swipe right
-                            chicken.moveRight();
-                            SoundManager.getInstance(getContext()).playJumpSound();
-                        } else {
-                            // Swipe left
-                            chicken.moveLeft();
-                            SoundManager.getInstance(getContext()).playJumpSound();
-                        }
+                        simScheduler.post(diffX > 0 ? swipeRightTask : swipeLeftTask);
                     }
                 }
                 return true;
         }
         return super.onTouchEvent(event);
     }
+
+    /**
+     * Converts a touch x coordinate on the surface to game coordinates. Called on
+     * the main thread, which is also the thread that updates the view transform.
+     *
+     * @param x - The x coordinate on the surface
+     * @return The x coordinate in the game
+     */
+    private float toGameX(float x) {
+        return (x - viewOffsetX) / viewScale;
+    }
+
+    private float toGameY(float y) {
+        return (y - viewOffsetY) / viewScale;
+    }
 }
\ No newline at end of file
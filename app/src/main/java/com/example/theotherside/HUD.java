@@ -9,6 +9,7 @@
  * - Countdown system (3, 2, 1, GO!)
  * - Semi-transparent overlay effects
  * - Touch detection for UI controls
+ * - Paints, geometry and text prepared up front, so drawing allocates nothing
  *
  */
 
@@ -16,7 +17,6 @@ package com.example.theotherside;
 
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -24,19 +24,42 @@ import android.graphics.Rect;
 import android.graphics.RectF;
 import android.graphics.Typeface;
 
+import com.example.theotherside.engine.GameClock;
+
 public class HUD {
-    // Paint objects for rendering
+    private static final int BUTTON_SIZE = 60;
+    // Countdown text indexed by the countdown value, 0 being "GO!"
+    private static final String[] COUNTDOWN_TEXT = {"GO!", "1", "2", "3"};
+    private static final String SCORE_PREFIX = "SCORE: ";
+    private static final int MAX_DIGITS = 11; // enough for any int
+
+    // Paint objects for rendering, each configured once
     private Paint paint, shadowPaint;
+    private Paint boxPaint, borderPaint, overlayPaint, countdownPaint, dividerPaint;
     private int screenWidth, screenHeight;
+    private GameClock clock;
     private Bitmap playBitmap, pauseBitmap, coinBitmap;
+    private TextureAtlas atlas;
+    private int playIcon, pauseIcon, coinIcon; // atlas regions
 
-    // Game state variables
-    private boolean isPaused;
+    // Game state variables. Written on the simulation thread; the pause and
+    // countdown flags are volatile because touch handling reads them on the UI thread
+    private volatile boolean isPaused;
     private RectF hudBox;
+    private RectF buttonArea;
     private int score;
 
+    // Text drawn by the HUD, rewritten in place only when the value shown changes
+    private final Rect textBounds = new Rect();
+    private final char[] coinText = new char[MAX_DIGITS];
+    private final char[] scoreText = new char[SCORE_PREFIX.length() + MAX_DIGITS];
+    private int coinTextLength, scoreTextLength;
+    private int shownCoins = -1, shownScore = -1, shownCountdown = -1;
+    private String countText;
+    private float coinTextY, scoreTextX, scoreTextY;
+
     // Countdown variables
-    private boolean isCountingDown;
+    private volatile boolean isCountingDown;
     private int countdownValue; // 3, 2, 1, Go!
     private long lastCountdownTime;
     private int coinsCollected;
@@ -51,29 +74,43 @@ public class HUD {
      * @param context - The Android context for accessing resources
      * @param screenWidth - Width of the screen in pixels
      * @param screenHeight - Height of the screen in pixels
+     * @param clock - The game clock that drives the countdown and is paused with the game
      */
-    public HUD(Context context, int screenWidth, int screenHeight) {
+    public HUD(Context context, int screenWidth, int screenHeight, GameClock clock) {
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
+        this.clock = clock;
 
         // Initialize paint objects
         paint = new Paint();
+        paint.setColor(Color.argb(60, 255, 255, 255));
         paint.setTextSize(50);
         shadowPaint = new Paint();
         shadowPaint.setColor(Color.BLACK);
         shadowPaint.setTextSize(50);
         shadowPaint.setAlpha(120);
-
-        // Load button images
-        playBitmap = BitmapFactory.decodeResource(context.getResources(), R.drawable.play);
-        pauseBitmap = BitmapFactory.decodeResource(context.getResources(), R.drawable.pause);
-        coinBitmap = BitmapFactory.decodeResource(context.getResources(), R.drawable.coin);
-
-        // Size and scale the button bitmaps
-        int buttonSize = 60;
-        playBitmap = Bitmap.createScaledBitmap(playBitmap, buttonSize, buttonSize, true);
-        pauseBitmap = Bitmap.createScaledBitmap(pauseBitmap, buttonSize, buttonSize, true);
-        coinBitmap = Bitmap.createScaledBitmap(coinBitmap, buttonSize, buttonSize, true);
+        boxPaint = new Paint();
+        boxPaint.setColor(Color.argb(200, 30, 30, 30));
+        borderPaint = new Paint();
+        borderPaint.setColor(Color.argb(60, 255, 255, 255));
+        borderPaint.setStyle(Paint.Style.STROKE);
+        borderPaint.setStrokeWidth(2);
+        overlayPaint = new Paint();
+        overlayPaint.setColor(Color.argb(120, 0, 0, 0));
+        countdownPaint = new Paint();
+        countdownPaint.setColor(Color.WHITE);
+        countdownPaint.setTextSize(150);
+        countdownPaint.setTextAlign(Paint.Align.CENTER);
+        countdownPaint.setShadowLayer(15, 0, 0, Color.argb(180, 255, 165, 0));
+        dividerPaint = new Paint();
+        dividerPaint.setColor(Color.WHITE);
+        dividerPaint.setStrokeWidth(2);
+
+        // Load the button images, scaled to the button size
+        SpriteCache spriteCache = SpriteCache.getInstance(context);
+        playBitmap = spriteCache.get(R.drawable.play, BUTTON_SIZE, BUTTON_SIZE, true);
+        pauseBitmap = spriteCache.get(R.drawable.pause, BUTTON_SIZE, BUTTON_SIZE, true);
+        coinBitmap = spriteCache.get(R.drawable.coin, BUTTON_SIZE, BUTTON_SIZE, true);
 
         // Create HUD box
         int boxWidth = (screenWidth / 2) + 150;
@@ -83,6 +120,13 @@ public class HUD {
 
         hudBox = new RectF(boxX, boxY, boxX + boxWidth, boxY + boxHeight);
 
+        // Pause/play button touch area (right side of HUD)
+        float buttonX = hudBox.right - 80;
+        float buttonY = hudBox.centerY() - 30;
+        buttonArea = new RectF(buttonX, buttonY, buttonX + 60, buttonY + 60);
+
+        SCORE_PREFIX.getChars(0, SCORE_PREFIX.length(), scoreText, 0);
+
         // Initialize state variables
         isPaused = false;
         score = 0;
@@ -123,21 +167,25 @@ public class HUD {
 
     /**
      * Initiates the countdown sequence from 3 to "GO!".
+     * Game time has to run for the countdown, so the clock is resumed.
      */
     public void startCountdown() {
+        clock.resume();
         isCountingDown = true;
         countdownValue = 3;
-        lastCountdownTime = System.currentTimeMillis();
+        lastCountdownTime = clock.uptimeMillis();
     }
 
     /**
      * Updates the countdown timer, decrements the counter every second,
      * and handles the transition from countdown to game start.
+     *
+     * @return true if the countdown display changed and needs to be redrawn
      */
-    public void updateCountdown() {
-        if (!isCountingDown) return;
+    public boolean updateCountdown() {
+        if (!isCountingDown) return false;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.uptimeMillis();
         if (currentTime - lastCountdownTime > 1000) { // 1 second intervals
             countdownValue--;
             lastCountdownTime = currentTime;
@@ -146,15 +194,20 @@ public class HUD {
                 isCountingDown = false;
                 isPaused = false; // Resume game after countdown
             }
+            return true;
         }
+        return false;
     }
 
     /**
-     * Toggles the pause state and initiates countdown when unpausing.
+     * Toggles the pause state, stopping the game clock while paused,
+     * and initiates countdown when unpausing.
      */
     public void togglePause() {
         isPaused = !isPaused;
-        if (!isPaused) {
+        if (isPaused) {
+            clock.pause();
+        } else {
             // Start countdown when unpausing
             startCountdown();
         }
@@ -168,38 +221,24 @@ public class HUD {
      * @return boolean indicating if the button was pressed
      */
     public boolean checkButtonPress(float touchX, float touchY) {
-        // Check if touch is within the pause/play button area (right side of HUD)
-        float buttonX = hudBox.right - 80;
-        float buttonY = hudBox.centerY() - 30;
-        RectF buttonArea = new RectF(buttonX, buttonY, buttonX + 60, buttonY + 60);
         return buttonArea.contains(touchX, touchY);
     }
 
     /**
      * Draws the complete HUD including background, score, buttons, and countdown
      * if active. Implements visual effects like shadows and glows for enhanced
-     * appearance.
+     * appearance. All displayed values come from the snapshot, so the HUD can be
+     * drawn on the render thread while the simulation keeps running.
      *
      * @param canvas - The Canvas object to draw on
+     * @param frame - The snapshot holding the values to display
      */
-    /**
-     * Draws the complete HUD including background, score, buttons, and countdown
-     * if active. Implements visual effects like shadows and glows for enhanced
-     * appearance.
-     *
-     * @param canvas - The Canvas object to draw on
-     */
-    public void draw(Canvas canvas) {
-        // Draw HUD background
-        paint.setColor(Color.argb(200, 30, 30, 30));
-        canvas.drawRoundRect(hudBox, 40, 40, paint);
+    public void draw(Canvas canvas, FrameSnapshot frame) {
+        updateText(frame);
 
-        // Border glow
-        paint.setColor(Color.argb(60, 255, 255, 255));
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(2);
-        canvas.drawRoundRect(hudBox, 40, 40, paint);
-        paint.setStyle(Paint.Style.FILL);
+        // Draw HUD background with a border glow
+        canvas.drawRoundRect(hudBox, 40, 40, boxPaint);
+        canvas.drawRoundRect(hudBox, 40, 40, borderPaint);
 
         // ===== VERTICAL ALIGNMENT CALCULATIONS =====
         float centerY = hudBox.centerY();
@@ -210,81 +249,137 @@ public class HUD {
 
         // Coin icon (centered vertically)
         float coinTop = centerY - (coinBitmap.getHeight() / 2f);
-        canvas.drawBitmap(coinBitmap, hudBox.left + coinPadding, coinTop, paint);
+        atlas.draw(canvas, coinIcon, hudBox.left + coinPadding, coinTop, paint);
 
-        // Coin count text
-        String coinText = String.valueOf(coinsCollected);
+        // Coin count text, vertically centered
         float coinTextX = hudBox.left + coinPadding + coinBitmap.getWidth() + coinSpacing;
-
-        // Measure text bounds directly
-        Rect textBounds = new Rect();
-        paint.getTextBounds(coinText, 0, coinText.length(), textBounds);
-        float textHeight = textBounds.height();
-        float textVerticalOffset = textHeight / 2f;
-        float textY = centerY + textVerticalOffset;
-
-        // Draw the text, now vertically centered
-        canvas.drawText(coinText, coinTextX + 2, textY + 2, shadowPaint); // Shadow
-        canvas.drawText(coinText, coinTextX, textY, paint); // Main text
+        canvas.drawText(coinText, 0, coinTextLength, coinTextX + 2, coinTextY + 2, shadowPaint); // Shadow
+        canvas.drawText(coinText, 0, coinTextLength, coinTextX, coinTextY, paint); // Main text
 
         // ===== SCORE SECTION =====
-        float scorePadding = 120; // space between right edge and score text
-        String scoreText = "SCORE: " + score;
-        float scoreTextWidth = paint.measureText(scoreText);
-
-        // Measure text boundaries
-        Rect textBoundsScore = new Rect();
-        paint.getTextBounds(scoreText, 0, scoreText.length(), textBoundsScore);
-        float textHeightScore = textBoundsScore.height();
-        float textVerticalOffsetScore = textHeightScore / 2f;
-        float textYScore = centerY + textVerticalOffsetScore;
-
-        // Position score text
-        float scoreX = hudBox.right - scorePadding - scoreTextWidth;
-        canvas.drawText(scoreText, scoreX + 2, textYScore + 2, shadowPaint); // Shadow
-        canvas.drawText(scoreText, scoreX, textYScore, paint); // Main text
+        canvas.drawText(scoreText, 0, scoreTextLength, scoreTextX + 2, scoreTextY + 2, shadowPaint); // Shadow
+        canvas.drawText(scoreText, 0, scoreTextLength, scoreTextX, scoreTextY, paint); // Main text
 
         // ===== PAUSE/BUTTON =====
         float buttonSize = pauseBitmap.getWidth();
         float buttonPadding = 20;
         float buttonX = hudBox.right - buttonSize - buttonPadding;
         float buttonY = centerY - (buttonSize / 2f);
-        Bitmap buttonBitmap;
-        if (isPaused) {
-            buttonBitmap = playBitmap;
+        int buttonIcon;
+        if (frame.isPaused) {
+            buttonIcon = playIcon;
         } else {
-            buttonBitmap = pauseBitmap;
+            buttonIcon = pauseIcon;
         }
 
-        canvas.drawBitmap(buttonBitmap, buttonX, buttonY, paint);
+        atlas.draw(canvas, buttonIcon, buttonX, buttonY, paint);
 
         // ===== COUNTDOWN =====
-        if (isCountingDown) {            // overlay
-            paint.setColor(Color.argb(120, 0, 0, 0));
-            canvas.drawRect(0, 0, screenWidth, screenHeight, paint);
+        float dividerX = hudBox.left + (hudBox.width() * 0.35f); // start 35% from left
+        if (frame.isCountingDown) {
+            // overlay
+            canvas.drawRect(0, 0, screenWidth, screenHeight, overlayPaint);
 
             // Countdown text
-            paint.setColor(Color.WHITE);
-            paint.setTextSize(150);
-            paint.setTextAlign(Paint.Align.CENTER);
-            paint.setShadowLayer(15, 0, 0, Color.argb(180, 255, 165, 0));
-
-            String countText;
-            if (countdownValue > 0){
-                countText = String.valueOf(countdownValue);
-            } else
-                countText = "GO!";
-            canvas.drawText(countText, screenWidth/2f, screenHeight/2f, paint);
-
-            // Reset paint
-            paint.setShadowLayer(0, 0, 0, 0);
-            paint.setTextAlign(Paint.Align.LEFT);
-            paint.setTextSize(50);
+            canvas.drawText(countText, screenWidth/2f, screenHeight/2f, countdownPaint);
+
+            // The divider is drawn bright over the overlay
+            canvas.drawLine(dividerX, hudBox.top, dividerX, hudBox.bottom, dividerPaint);
+        } else {
+            canvas.drawLine(dividerX, hudBox.top, dividerX, hudBox.bottom, borderPaint);
         }
+    }
 
-        float dividerX = hudBox.left + (hudBox.width() * 0.35f); // start 35% from left
-        canvas.drawLine(dividerX, hudBox.top, dividerX, hudBox.bottom, paint);
+    /**
+     * Rebuilds the coin, score and countdown text, and the text positions that
+     * depend on it, for values that changed since the last frame.
+     *
+     * @param frame - The snapshot holding the values to display
+     */
+    private void updateText(FrameSnapshot frame) {
+        float centerY = hudBox.centerY();
+        if (frame.coinsCollected != shownCoins) {
+            shownCoins = frame.coinsCollected;
+            coinTextLength = writeNumber(coinText, 0, shownCoins);
+            paint.getTextBounds(coinText, 0, coinTextLength, textBounds);
+            coinTextY = centerY + textBounds.height() / 2f;
+        }
+        if (frame.score != shownScore) {
+            shownScore = frame.score;
+            scoreTextLength = writeNumber(scoreText, SCORE_PREFIX.length(), shownScore);
+            float scorePadding = 120; // space between right edge and score text
+            scoreTextX = hudBox.right - scorePadding - paint.measureText(scoreText, 0, scoreTextLength);
+            paint.getTextBounds(scoreText, 0, scoreTextLength, textBounds);
+            scoreTextY = centerY + textBounds.height() / 2f;
+        }
+        if (frame.countdownValue != shownCountdown) {
+            shownCountdown = frame.countdownValue;
+            countText = COUNTDOWN_TEXT[Math.max(shownCountdown, 0)];
+        }
+    }
+
+    /**
+     * Writes the decimal digits of a number into a character buffer.
+     *
+     * @param buffer - The buffer to write to
+     * @param start - The index of the first digit
+     * @param value - The number to write
+     * @return The index after the last character written
+     */
+    static int writeNumber(char[] buffer, int start, int value) {
+        long remaining = value; // a long, so Integer.MIN_VALUE can be negated
+        int end = start;
+        if (remaining < 0) {
+            buffer[end++] = '-';
+            remaining = -remaining;
+            start = end;
+        }
+        do {
+            buffer[end++] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+
+        // Digits were written lowest first
+        for (int i = start, j = end - 1; i < j; i++, j--) {
+            char digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+        return end;
+    }
+
+    /**
+     * Loads the HUD's scaled icons into the sprite cache. Safe to call from a
+     * background thread.
+     *
+     * @param spriteCache - The cache to load the icons into
+     */
+    static void preload(SpriteCache spriteCache) {
+        spriteCache.get(R.drawable.play, BUTTON_SIZE, BUTTON_SIZE, true);
+        spriteCache.get(R.drawable.pause, BUTTON_SIZE, BUTTON_SIZE, true);
+        spriteCache.get(R.drawable.coin, BUTTON_SIZE, BUTTON_SIZE, true);
     }
+
+    /**
+     * Adds the HUD's icons to a texture atlas that is being built.
+     *
+     * @param builder - The builder of the atlas the HUD will draw from
+     */
+    public void addIcons(TextureAtlas.Builder builder) {
+        playIcon = builder.add(playBitmap);
+        pauseIcon = builder.add(pauseBitmap);
+        coinIcon = builder.add(coinBitmap);
+    }
+
+    /**
+     * Sets the atlas built with the HUD's icons. Icons are drawn from it from now on.
+     *
+     * @param atlas - The built atlas
+     */
+    public void setAtlas(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
     public void setDistance(float distance) {
         this.currentDistance = distance;
     }
@@ -292,4 +387,17 @@ public class HUD {
         this.coinsCollected = coins;
     }
 
+    /**
+     * Copies the values displayed by the HUD into a frame snapshot.
+     *
+     * @param frame - The snapshot to fill
+     */
+    public void writeTo(FrameSnapshot frame) {
+        frame.score = score;
+        frame.coinsCollected = coinsCollected;
+        frame.countdownValue = countdownValue;
+        frame.isPaused = isPaused;
+        frame.isCountingDown = isCountingDown;
+    }
+
 }
\ No newline at end of file
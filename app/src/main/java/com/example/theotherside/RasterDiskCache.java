@@ -0,0 +1,166 @@
+/*
+ * This file contains the RasterDiskCache class which keeps rasterized vector
+ * icons and pre-scaled bitmaps as PNG files in the app's cache directory, so
+ * later launches of the game can load them instead of rendering them again.
+ *
+ * The class manages:
+ * - One directory per installed app version
+ * - Reading and writing cached bitmaps by name
+ * - Deleting files left behind by older app versions and interrupted writes
+ * - Concurrent reads and writes from several threads
+ *
+ */
+
+package com.example.theotherside;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * On-disk store of small bitmaps. Files are only valid for the app version that
+ * wrote them, because resources can change with an update. Safe to use from
+ * several threads at once: every write goes through its own temporary file and
+ * an atomic rename, so readers see either no file or a complete one, and only
+ * the one-off directory setup takes the lock.
+ */
+public class RasterDiskCache {
+    private static final String TAG = "RasterDiskCache";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final File root;
+    private final File directory;
+    private boolean prepared; // guarded by this
+
+    /**
+     * Creates a cache in a subdirectory of root for the given app version.
+     *
+     * @param root - The directory that holds the caches of every version
+     * @param version - A value that changes whenever the app is updated
+     */
+    public RasterDiskCache(File root, String version) {
+        this.root = root;
+        this.directory = new File(root, version);
+    }
+
+    /**
+     * Reads a cached bitmap.
+     *
+     * @param name - The name the bitmap was written under
+     * @param width - The expected width in pixels
+     * @param height - The expected height in pixels
+     * @return The bitmap, or null if it is missing or unreadable
+     */
+    public Bitmap read(String name, int width, int height) {
+        File file = new File(directory, name + ".png");
+        if (!file.isFile()) {
+            return null;
+        }
+        Bitmap bitmap = BitmapFactory.decodeFile(file.getPath());
+        if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+            // Damaged or stale; it is written again after the next rasterization
+            file.delete();
+            return null;
+        }
+        return bitmap;
+    }
+
+    /**
+     * Writes a bitmap as a PNG file. The file is written under a temporary name
+     * unique to this write and renamed, so a crash never leaves a half-written
+     * file behind and two threads writing the same name don't mix their bytes.
+     * Failures are logged and otherwise ignored.
+     *
+     * @param name - The name to write the bitmap under
+     * @param bitmap - The bitmap to write
+     */
+    public void write(String name, Bitmap bitmap) {
+        if (!prepareDirectory()) {
+            return;
+        }
+        File file = new File(directory, name + ".png");
+        File temp;
+        try {
+            temp = File.createTempFile(name, TEMP_SUFFIX, directory);
+        } catch (IOException e) {
+            Log.w(TAG, "could not write " + file, e);
+            return;
+        }
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, out);
+        } catch (IOException e) {
+            Log.w(TAG, "could not write " + file, e);
+            temp.delete();
+            return;
+        }
+        if (!temp.renameTo(file)) {
+            Log.w(TAG, "could not rename " + temp);
+            temp.delete();
+        }
+    }
+
+    /**
+     * Creates this version's directory on the first write, after removing the
+     * directories of other versions and temporary files that an earlier process
+     * left behind. Later writes only check the flag.
+     *
+     * @return true if the directory exists, false otherwise
+     */
+    private synchronized boolean prepareDirectory() {
+        if (!prepared) {
+            deleteOtherVersions();
+            deleteTempFiles();
+            prepared = true;
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "could not create " + directory);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes temporary files of writes that never finished. Only called before
+     * this process starts writing, so none of them belongs to a running write.
+     */
+    private void deleteTempFiles() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Removes the directories written by other app versions.
+     */
+    private void deleteOtherVersions() {
+        File[] versions = root.listFiles();
+        if (versions == null) {
+            return;
+        }
+        for (File version : versions) {
+            if (!version.equals(directory)) {
+                deleteRecursively(version);
+            }
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * This file contains the RunCoins class which remembers how many of the current
+ * run's coins have already been added to the saved coin total. The game saves
+ * coins both when the chicken crashes and when the activity pauses, and this
+ * makes sure no coin is counted twice however those two interleave.
+ *
+ * The class manages:
+ * - The coins collected in the current run
+ * - How many of them were already saved
+ *
+ */
+
+package com.example.theotherside;
+
+/**
+ * Per-run coin ledger. The simulation thread records coins and the UI thread
+ * may save them while pausing, so every method is synchronized.
+ */
+class RunCoins {
+    private int collected;
+    private int saved;
+
+    /**
+     * Starts a new run with no coins.
+     */
+    synchronized void startRun() {
+        collected = 0;
+        saved = 0;
+    }
+
+    /**
+     * Records the number of coins collected so far in this run.
+     *
+     * @param coins - The run's coin count
+     */
+    synchronized void setCollected(int coins) {
+        collected = coins;
+    }
+
+    synchronized int getCollected() {
+        return collected;
+    }
+
+    /**
+     * Marks every coin collected so far as saved.
+     *
+     * @return The number of coins that were not saved before
+     */
+    synchronized int takeUnsaved() {
+        int unsaved = collected - saved;
+        saved = collected;
+        return unsaved;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.theotherside;
 
 import android.content.Intent;
+import android.graphics.Point;
 import android.net.Uri;
 import android.os.Bundle;
 import android.widget.Button;
@@ -25,6 +26,12 @@ public class Screen1 extends AppCompatActivity {
         //initialise SoundManager
         SoundManager.getInstance(this);
 
+        // decode the game's bitmaps in the background while the intro plays
+        Point size = new Point();
+        getWindowManager().getDefaultDisplay().getSize(size);
+        // the game runs in portrait, whichever way the device is held now
+        AssetPreloader.getInstance().start(this, Math.min(size.x, size.y), Math.max(size.x, size.y));
+
         // mute button
         muteButton = findViewById(R.id.muteButton);
         updateMuteButton(); // this sets inital icon
@@ -1,6 +1,7 @@
 package com.example.theotherside;
 
 import android.os.Bundle;
+import android.widget.ImageButton;
 
 import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
@@ -9,11 +10,34 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 public class ScreenGameOver extends AppCompatActivity {
+    private ScreenImages images;
+
+    private ImageButton playAgainButton;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
         setContentView(R.layout.screen_game_over);
+        images = new ScreenImages(this);
+        playAgainButton = findViewById(R.id.imageButton4);
+    }
+
+    /**
+     * Sets the play again image from the shared image cache.
+     */
+    @Override
+    protected void onStart() {
+        super.onStart();
+        images.show(playAgainButton, R.drawable.playagain);
+    }
+
+    /**
+     * Releases the play again image once the screen is hidden.
+     */
+    @Override
+    protected void onStop() {
+        super.onStop();
+        images.release(playAgainButton);
     }
-}
\ No newline at end of file
+}
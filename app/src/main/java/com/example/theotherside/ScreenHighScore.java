@@ -1,8 +1,6 @@
 package com.example.theotherside;
 
-import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.util.Log;
 import android.widget.ImageButton;
@@ -11,14 +9,18 @@ import android.widget.TextView;
 import androidx.appcompat.app.AppCompatActivity;
 
 public class ScreenHighScore extends AppCompatActivity {
+    private ScreenImages images;
+
+    private ImageButton shopButton, startButton;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.screen_high_score);
+        images = new ScreenImages(this);
 
-        ImageButton shopButton = findViewById(R.id.shopButton);
-        ImageButton startButton = findViewById(R.id.startGameButton);
+        shopButton = findViewById(R.id.shopButton);
+        startButton = findViewById(R.id.startGameButton);
 
         if (shopButton != null) {  // Null check to prevent crashes
             shopButton.setOnClickListener(v -> {
@@ -38,20 +40,38 @@ public class ScreenHighScore extends AppCompatActivity {
         }
 
         // Update highscore
-        SharedPreferences prefs = getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
-        int highScore = prefs.getInt("highScore", 0);
+        GameProgress progress = GameApplication.from(this).getProgress();
+        int highScore = progress.getHighScore();
 
         TextView highScoreText = findViewById(R.id.highScore);
         highScoreText.setText(""+highScore);
 
         // Update collected coins
-        SharedPreferences prefs2 = getSharedPreferences("GamePrefs", Context.MODE_PRIVATE);
-        int coinCount = prefs2.getInt("coinCount", 0);
+        int coinCount = progress.getCoinCount();
 
         TextView coinCountText = findViewById(R.id.coinCount);
         coinCountText.setText(""+coinCount);
 
+    }
+
+    /**
+     * Sets the shop and start button images from the shared image cache.
+     */
+    @Override
+    protected void onStart() {
+        super.onStart();
+        images.show(shopButton, R.drawable.frame_2);
+        images.show(startButton, R.drawable.frame_3);
+    }
 
+    /**
+     * Clears the button images while another screen is shown, so the cache can evict
+     * them if it runs over budget.
+     */
+    @Override
+    protected void onStop() {
+        super.onStop();
+        images.release(shopButton, startButton);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+/*
+ * This file contains the ScreenImages class which loads the large images of a
+ * menu screen without blocking the main thread. Each image is decoded on a
+ * background thread at no more than the size of its view, while a placeholder
+ * is shown, and is kept in the SpriteCache only while the screen is visible.
+ *
+ * The class manages:
+ * - Placeholders shown until an image is ready
+ * - Working out the size to decode at from the layout params, waiting for
+ *   layout only when the size depends on it
+ * - Downsampled decoding on a shared background thread
+ * - Pinning and releasing the screen's images in the SpriteCache
+ *
+ */
+
+package com.example.theotherside;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads images into the views of one screen. Call show() from onStart() and
+ * release() from onStop(); images that finish decoding after release() are
+ * dropped instead of being shown. Must be used from the main thread.
+ */
+public class ScreenImages {
+    private static final String TAG = "ScreenImages";
+    private static final int PLACEHOLDER_COLOR = Color.argb(20, 0, 0, 0);
+    private static final int MAX_DECODES = 2; // the image may be evicted before it is shown
+    private static ExecutorService decoder;
+
+    private final SpriteCache spriteCache;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private int generation;
+
+    /**
+     * Creates the image loader of a screen. The images are pinned under this
+     * loader, so each instance of a screen releases only its own.
+     *
+     * @param context - Any context; only the application context is kept
+     */
+    public ScreenImages(Context context) {
+        this.spriteCache = SpriteCache.getInstance(context);
+    }
+
+    /**
+     * Shows an image in a view. A placeholder is shown until the image has been
+     * decoded in the background, sampled down to the view's size.
+     *
+     * @param view - The view to show the image in
+     * @param resId - The resource ID of the image
+     */
+    public void show(ImageView view, int resId) {
+        int requested = generation;
+        view.setImageDrawable(new ColorDrawable(PLACEHOLDER_COLOR));
+        if (view.isLaidOut() || !isSizedByLayout(view)) {
+            decode(view, resId, requested);
+        } else {
+            view.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+                @Override
+                public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                           int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                    view.removeOnLayoutChangeListener(this);
+                    decode(view, resId, requested);
+                }
+            });
+        }
+    }
+
+    /**
+     * Clears the given views and lets the cache evict the screen's images.
+     * Decodes still running are ignored when they finish.
+     *
+     * @param views - The views images were shown in
+     */
+    public void release(ImageView... views) {
+        generation++;
+        for (ImageView view : views) {
+            view.setImageDrawable(null);
+        }
+        spriteCache.release(this);
+    }
+
+    /**
+     * Decodes an image in the background at the view's target size and shows it
+     * if the screen has not been released in the meantime.
+     */
+    private void decode(ImageView view, int resId, int requested) {
+        int width = targetSize(view.getLayoutParams().width, view.getWidth(),
+                view.getPaddingLeft() + view.getPaddingRight(),
+                view.getResources().getDisplayMetrics().widthPixels);
+        int height = targetSize(view.getLayoutParams().height, view.getHeight(),
+                view.getPaddingTop() + view.getPaddingBottom(),
+                view.getResources().getDisplayMetrics().heightPixels);
+        decode(view, resId, requested, width, height, MAX_DECODES);
+    }
+
+    /**
+     * Decodes an image on the background thread, then shows it on the main thread
+     * with a cache lookup that never decodes. If the image was evicted in between,
+     * it is decoded in the background again, up to the given number of times.
+     */
+    private void decode(ImageView view, int resId, int requested, int width, int height,
+                        int decodesLeft) {
+        if (requested != generation || decodesLeft == 0) {
+            return;
+        }
+        getDecoder().execute(() -> {
+            try {
+                // Decoded unpinned, so an image for a screen that is gone can be evicted
+                spriteCache.getSampled(null, resId, width, height);
+            } catch (RuntimeException e) {
+                Log.w(TAG, "could not decode " + resId, e);
+                return;
+            }
+            mainHandler.post(() -> {
+                if (requested != generation) {
+                    return;
+                }
+                Bitmap bitmap = spriteCache.peekSampled(this, resId, width, height);
+                if (bitmap != null) {
+                    view.setImageBitmap(bitmap);
+                } else {
+                    decode(view, resId, requested, width, height, decodesLeft - 1);
+                }
+            });
+        });
+    }
+
+    /**
+     * Checks if a view's size is only known after layout, i.e. it matches its
+     * parent or is sized by constraints.
+     */
+    private static boolean isSizedByLayout(View view) {
+        ViewGroup.LayoutParams params = view.getLayoutParams();
+        return params == null
+                || params.width == ViewGroup.LayoutParams.MATCH_PARENT || params.width == 0
+                || params.height == ViewGroup.LayoutParams.MATCH_PARENT || params.height == 0;
+    }
+
+    /**
+     * Returns the size to decode an image at along one axis. The result only
+     * depends on the layout params and the laid out size, so showing the same
+     * view again finds the image under the same cache key.
+     *
+     * @param param - The layout param of the axis
+     * @param laidOut - The view's size on the axis, used when the layout decides it
+     * @param padding - The view's padding on the axis
+     * @param displaySize - The display size on the axis
+     * @return The size in pixels
+     */
+    private static int targetSize(int param, int laidOut, int padding, int displaySize) {
+        if (param > 0) {
+            return param - padding; // fixed size
+        }
+        if (param == ViewGroup.LayoutParams.WRAP_CONTENT) {
+            // Sized by the image, which can be no larger than the screen
+            return displaySize;
+        }
+        return laidOut - padding;
+    }
+
+    /**
+     * Returns the background thread shared by all screens, creating it on first use.
+     */
+    private static synchronized ExecutorService getDecoder() {
+        if (decoder == null) {
+            decoder = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(() -> {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_DEFAULT);
+                    task.run();
+                }, "ScreenImages");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return decoder;
+    }
+}
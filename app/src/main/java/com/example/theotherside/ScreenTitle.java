@@ -3,6 +3,7 @@ package com.example.theotherside;
 import android.content.Intent;
 import android.os.Bundle;
 import android.widget.Button;
+import android.widget.ImageView;
 
 import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
@@ -11,13 +12,18 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 public class ScreenTitle extends AppCompatActivity {
+    private ScreenImages images;
+
+    private ImageView logoImage;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
         setContentView(R.layout.screen_title);
+        images = new ScreenImages(this);
         Button playNowButton = findViewById(R.id.playNowButton);
+        logoImage = findViewById(R.id.imageView);
 
         playNowButton.setOnClickListener(v -> {
             SoundManager.getInstance(ScreenTitle.this).playButtonClick();
@@ -26,4 +32,22 @@ public class ScreenTitle extends AppCompatActivity {
                 startActivity(intent);
             });
     }
-}
\ No newline at end of file
+
+    /**
+     * Shows the logo from the shared image cache.
+     */
+    @Override
+    protected void onStart() {
+        super.onStart();
+        images.show(logoImage, R.drawable.logo);
+    }
+
+    /**
+     * Releases the logo while the title screen is hidden, for example during the game.
+     */
+    @Override
+    protected void onStop() {
+        super.onStop();
+        images.release(logoImage);
+    }
+}
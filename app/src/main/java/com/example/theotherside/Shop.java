@@ -5,14 +5,20 @@ import android.os.Bundle;
 import androidx.appcompat.app.AppCompatActivity;
 import android.view.View;
 import android.widget.Button;
+import android.widget.ImageView;
 public class Shop extends AppCompatActivity {
+    private ScreenImages images;
+
+    private ImageView comingSoonImage;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
         setContentView(R.layout.screen_shop);
+        images = new ScreenImages(this);
         Button back = findViewById(R.id.backButton);
+        comingSoonImage = findViewById(R.id.imageView2);
 
         back.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -24,4 +30,22 @@ public class Shop extends AppCompatActivity {
             }
         });
     }
+
+    /**
+     * Shows the shop placeholder image from the shared image cache.
+     */
+    @Override
+    protected void onStart() {
+        super.onStart();
+        images.show(comingSoonImage, R.drawable.errorimage);
+    }
+
+    /**
+     * Releases the placeholder image once the shop is no longer visible.
+     */
+    @Override
+    protected void onStop() {
+        super.onStop();
+        images.release(comingSoonImage);
+    }
 }
@@ -7,7 +7,7 @@
  * - Loading and playing sound effects
  * - Controlling background music playback
  * - Muting and unmuting all sounds
- * - Singleton pattern to ensure a single instance
+ * - One instance per process, owned by GameApplication
  */
 package com.example.theotherside;
 
@@ -17,7 +17,6 @@ import android.media.MediaPlayer;
 import android.media.SoundPool;
 import android.os.Build;
 public class SoundManager {
-    private static SoundManager instance;
     private final SoundPool soundPool;
     private MediaPlayer bgMusicPlayer;
     private boolean isMuted = false;
@@ -29,14 +28,17 @@ public class SoundManager {
     private int crashSoundId;
     private int buttonClickSoundId;
     private int powerUpSoundId;
-    private Context context;
+    private final Context context;
 
     /**
-     * Private constructor to initialize SoundPool and MediaPlayer.
+     * Constructor to initialize SoundPool and MediaPlayer. Use
+     * GameApplication.getSoundManager() instead.
      *
      * @param context - The application context used to load sound resources
      */
-    private SoundManager(Context context) {
+    SoundManager(Context context) {
+        this.context = context.getApplicationContext();
+
         // initialise SoundPool
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
             soundPool = new SoundPool.Builder()
@@ -60,16 +62,13 @@ public class SoundManager {
     }
 
     /**
-     * Returns the singleton instance of SoundManager.
+     * Returns the process-wide SoundManager owned by the application.
      *
-     * @param context - The application context
+     * @param context - Any context; the instance only keeps the application context
      * @return The SoundManager instance
      */
-    public static synchronized SoundManager getInstance(Context context) {
-        if (instance == null) {
-            instance = new SoundManager(context);
-        }
-        return instance;
+    public static SoundManager getInstance(Context context) {
+        return GameApplication.from(context).getSoundManager();
     }
 
     /**
@@ -113,12 +112,12 @@ public class SoundManager {
      * Starts the background music if it's not already playing.
      * Handles IllegalStateException if the player is in an invalid state.
      */
-    // TO FIX: music stops playing after playing again
     public void startBgMusic() {
         try {
             if (bgMusicPlayer == null) {
                 bgMusicPlayer = MediaPlayer.create(context, R.raw.bg_music);
                 bgMusicPlayer.setLooping(true);
+                bgMusicPlayer.setVolume(isMuted ? 0 : volume, isMuted ? 0 : volume);
             }
             if (!bgMusicPlayer.isPlaying()) {
                 bgMusicPlayer.start();
@@ -143,14 +142,15 @@ public class SoundManager {
     }
 
     /**
-     * Releases resources used by SoundPool and MediaPlayer.
+     * Releases the background music player. The sound effects stay loaded, since
+     * they are shared by every screen; the music player is created again by the
+     * next call to startBgMusic().
      */
-    public void release() {
+    public void releaseBgMusic() {
         if (bgMusicPlayer != null) {
             bgMusicPlayer.release();
             bgMusicPlayer = null;
         }
-        soundPool.release();
     }
 
     /**
@@ -0,0 +1,153 @@
+/*
+ * This file contains the SpriteBatch class which draws many sprites from a
+ * TextureAtlas with as few draw calls as possible. On hardware-accelerated
+ * canvases that support it, all sprites of a batch become one drawVertices call
+ * with textured quads; otherwise each sprite is drawn from the atlas with a
+ * source rectangle.
+ *
+ * The class manages:
+ * - Collecting sprite quads between begin() and end()
+ * - Vertex, texture coordinate and index arrays that grow as needed
+ * - Falling back to per-sprite drawBitmap where drawVertices isn't accelerated
+ *
+ */
+
+package com.example.theotherside;
+
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Shader;
+import android.os.Build;
+
+/**
+ * Batches sprite draws from one atlas. Arrays are reused between frames, so a
+ * batch allocates nothing once it has grown to the largest sprite count seen.
+ * Only use a batch from one thread.
+ */
+public class SpriteBatch {
+    private static final int INITIAL_CAPACITY = 32;
+    private static final int FLOATS_PER_SPRITE = 8; // 4 corners with x and y
+    private static final int INDICES_PER_SPRITE = 6; // 2 triangles
+    private static final int MAX_SPRITES = Short.MAX_VALUE / 4;
+
+    private final TextureAtlas atlas;
+    private final Paint vertexPaint;
+    private float[] vertices = new float[0];
+    private float[] texCoords = new float[0];
+    private short[] indices = new short[0];
+    private int spriteCount;
+    private Canvas canvas;
+    private boolean useVertices;
+
+    /**
+     * Creates a batch that draws regions of the given atlas.
+     *
+     * @param atlas - The atlas holding every sprite drawn through this batch
+     */
+    public SpriteBatch(TextureAtlas atlas) {
+        this.atlas = atlas;
+        vertexPaint = new Paint();
+        vertexPaint.setShader(new BitmapShader(atlas.getBitmap(),
+                Shader.TileMode.CLAMP, Shader.TileMode.CLAMP));
+        grow(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Starts a batch on a canvas.
+     *
+     * @param canvas - The canvas the sprites are drawn on
+     */
+    public void begin(Canvas canvas) {
+        this.canvas = canvas;
+        spriteCount = 0;
+        // drawVertices is only accelerated from API 29; software canvases blit faster per sprite
+        useVertices = Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q && canvas.isHardwareAccelerated();
+    }
+
+    /**
+     * Adds a sprite to the batch at its natural size.
+     *
+     * @param region - The atlas region of the sprite
+     * @param x - The left edge on the canvas
+     * @param y - The top edge on the canvas
+     */
+    public void draw(int region, float x, float y) {
+        if (!useVertices) {
+            atlas.draw(canvas, region, x, y, null);
+            return;
+        }
+        if (spriteCount == MAX_SPRITES) {
+            flush();
+        }
+        if (spriteCount * FLOATS_PER_SPRITE == vertices.length) {
+            grow(Math.min(spriteCount * 2, MAX_SPRITES));
+        }
+
+        Rect source = atlas.getRegion(region);
+        float right = x + source.width();
+        float bottom = y + source.height();
+        int v = spriteCount * FLOATS_PER_SPRITE;
+        setCorners(vertices, v, x, y, right, bottom);
+        setCorners(texCoords, v, source.left, source.top, source.right, source.bottom);
+        spriteCount++;
+    }
+
+    /**
+     * Draws everything added since begin() and ends the batch.
+     */
+    public void end() {
+        flush();
+        canvas = null;
+    }
+
+    private void flush() {
+        if (spriteCount > 0) {
+            canvas.drawVertices(Canvas.VertexMode.TRIANGLES, spriteCount * FLOATS_PER_SPRITE,
+                    vertices, 0, texCoords, 0, null, 0,
+                    indices, 0, spriteCount * INDICES_PER_SPRITE, vertexPaint);
+            spriteCount = 0;
+        }
+    }
+
+    /**
+     * Writes the corners top-left, top-right, bottom-right, bottom-left.
+     */
+    private static void setCorners(float[] array, int offset, float left, float top,
+                                   float right, float bottom) {
+        array[offset] = left;
+        array[offset + 1] = top;
+        array[offset + 2] = right;
+        array[offset + 3] = top;
+        array[offset + 4] = right;
+        array[offset + 5] = bottom;
+        array[offset + 6] = left;
+        array[offset + 7] = bottom;
+    }
+
+    /**
+     * Resizes the arrays to hold the given number of sprites. The index pattern
+     * is the same every frame, so it is only written here.
+     */
+    private void grow(int capacity) {
+        float[] newVertices = new float[capacity * FLOATS_PER_SPRITE];
+        System.arraycopy(vertices, 0, newVertices, 0, vertices.length);
+        vertices = newVertices;
+        float[] newTexCoords = new float[capacity * FLOATS_PER_SPRITE];
+        System.arraycopy(texCoords, 0, newTexCoords, 0, texCoords.length);
+        texCoords = newTexCoords;
+
+        indices = new short[capacity * INDICES_PER_SPRITE];
+        for (int i = 0; i < capacity; i++) {
+            short corner = (short) (i * 4);
+            int offset = i * INDICES_PER_SPRITE;
+            indices[offset] = corner;
+            indices[offset + 1] = (short) (corner + 1);
+            indices[offset + 2] = (short) (corner + 2);
+            indices[offset + 3] = corner;
+            indices[offset + 4] = (short) (corner + 2);
+            indices[offset + 5] = (short) (corner + 3);
+        }
+    }
+}
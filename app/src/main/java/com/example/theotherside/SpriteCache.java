@@ -0,0 +1,480 @@
+/*
+ * This file contains the SpriteCache class which decodes each image once per
+ * process and shares the bitmap between everything that draws it. Bitmaps are
+ * keyed by resource id and target size, so the same image can be cached at its
+ * natural size and at a scaled size. Decoding goes through BitmapLoader.
+ *
+ * The cache holds at most a configurable number of bytes. Screens pin the images
+ * they show and release them when they stop; once over budget, the least recently
+ * used images that nothing holds are dropped.
+ *
+ * The class manages:
+ * - Decoding and optional scaling of drawable resources
+ * - Opaque backgrounds in RGB_565, kept in GPU memory where supported
+ * - Rasterization of vector drawables
+ * - Optional on-disk copies of rasterized and scaled icons
+ * - Lookup of decoded bitmaps by resource id and size
+ * - Byte accounting and least-recently-used eviction within a budget
+ * - Pinning of images by the objects that show them, each released on its own
+ * - Dropping unused bitmaps when the system runs low on memory
+ * - One instance per process, owned by GameApplication
+ *
+ */
+
+package com.example.theotherside;
+
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Process-wide cache of decoded bitmaps. Cached bitmaps are shared, so callers
+ * must not modify or recycle them. Whatever shows cached images passes itself
+ * as the owner when looking them up and calls release() with the same object
+ * when it stops, after letting go of the bitmaps. Owners are compared by
+ * identity, so a new instance of a screen keeps its images when the old one
+ * it replaces is released.
+ *
+ * The cache's lock only guards its map and byte count. Images are decoded, and
+ * read from or written to the disk cache, outside it, so a lookup, release or
+ * trim on the main thread never waits for a decode or disk access running on
+ * another thread; a miss still decodes on the calling thread.
+ */
+public class SpriteCache implements ComponentCallbacks2 {
+    private static final String TAG = "SpriteCache";
+    private static final int KIND_RESOURCE = 0;
+    private static final int KIND_OPAQUE = 1;
+    private static final int KIND_VECTOR = 2;
+    private static final int KIND_SAMPLED = 3;
+
+    private final Context context;
+    // Access-ordered, so iteration starts at the least recently used image
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long budgetBytes;
+    private long usedBytes;
+    private volatile RasterDiskCache diskCache; // null while disabled; used without the lock
+
+    /**
+     * Produces the bitmap for a cache miss. Runs without the cache's lock.
+     */
+    private interface Decoder {
+        Bitmap decode();
+    }
+
+    /**
+     * Constructor that registers for memory pressure callbacks and picks a default
+     * budget of a quarter of the heap, or an eighth on low-RAM devices. Use
+     * GameApplication.getSpriteCache() instead.
+     *
+     * @param context - Any context; only the application context is kept
+     */
+    SpriteCache(Context context) {
+        this.context = context.getApplicationContext();
+        this.context.registerComponentCallbacks(this);
+
+        ActivityManager activityManager =
+                (ActivityManager) this.context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean lowRam = activityManager != null && activityManager.isLowRamDevice();
+        budgetBytes = Runtime.getRuntime().maxMemory() / (lowRam ? 8 : 4);
+        setDiskCacheEnabled(true);
+    }
+
+    /**
+     * Returns the process-wide SpriteCache owned by the application.
+     *
+     * @param context - Any context of this app
+     * @return The SpriteCache instance
+     */
+    public static SpriteCache getInstance(Context context) {
+        return GameApplication.from(context).getSpriteCache();
+    }
+
+    /**
+     * Returns a drawable resource decoded at its natural size, decoding it on first use.
+     *
+     * @param resId - The resource ID of the image
+     * @return The shared bitmap
+     */
+    public Bitmap get(int resId) {
+        return get(null, resId, 0, 0, false);
+    }
+
+    /**
+     * Returns a drawable resource scaled to the given size, decoding and scaling it
+     * on first use. The filter flag only applies to that first use.
+     *
+     * @param resId - The resource ID of the image
+     * @param width - The target width in pixels, or 0 for the natural size
+     * @param height - The target height in pixels, or 0 for the natural size
+     * @param filter - Whether to filter when scaling
+     * @return The shared bitmap
+     */
+    public Bitmap get(int resId, int width, int height, boolean filter) {
+        return get(null, resId, width, height, filter);
+    }
+
+    /**
+     * Returns a drawable resource scaled to the given size and pins it for an owner.
+     *
+     * @param owner - The object showing the image, or null to not pin it
+     * @param resId - The resource ID of the image
+     * @param width - The target width in pixels, or 0 for the natural size
+     * @param height - The target height in pixels, or 0 for the natural size
+     * @param filter - Whether to filter when scaling
+     * @return The shared bitmap
+     */
+    public Bitmap get(Object owner, int resId, int width, int height, boolean filter) {
+        Key key = new Key(resId, width, height, KIND_RESOURCE);
+        return getOrDecode(owner, key, () -> {
+            if (width <= 0 || height <= 0) {
+                return BitmapLoader.decodeSprite(context.getResources(), resId);
+            }
+            Bitmap bitmap = readFromDisk(key);
+            if (bitmap == null) {
+                bitmap = BitmapLoader.decodeScaled(context.getResources(), resId, width, height, filter);
+                writeToDisk(key, bitmap);
+            }
+            return bitmap;
+        });
+    }
+
+    /**
+     * Returns an opaque background image at the given size, decoding it on first
+     * use. It is decoded in RGB_565 and, on API 26+, moved to a hardware bitmap,
+     * so it must only be drawn on a hardware canvas there.
+     *
+     * @param resId - The resource ID of the image
+     * @param width - The target width in pixels
+     * @param height - The target height in pixels
+     * @return The shared bitmap
+     */
+    public Bitmap getBackground(int resId, int width, int height) {
+        return getBackground(null, resId, width, height);
+    }
+
+    /**
+     * Returns an opaque background image at the given size and pins it for an owner.
+     *
+     * @param owner - The object showing the image, or null to not pin it
+     * @param resId - The resource ID of the image
+     * @param width - The target width in pixels
+     * @param height - The target height in pixels
+     * @return The shared bitmap
+     */
+    public Bitmap getBackground(Object owner, int resId, int width, int height) {
+        Key key = new Key(resId, width, height, KIND_OPAQUE);
+        return getOrDecode(owner, key, () -> BitmapLoader.toHardware(
+                BitmapLoader.decodeOpaque(context.getResources(), resId, width, height)));
+    }
+
+    /**
+     * Returns a large image sampled down for a view of the given size and pins it
+     * for an owner. Call this from a background thread on a miss.
+     *
+     * @param owner - The object showing the image, or null to not pin it
+     * @param resId - The resource ID of the image
+     * @param width - The width of the view in pixels, or 0 if unknown
+     * @param height - The height of the view in pixels, or 0 if unknown
+     * @return The shared bitmap
+     */
+    public Bitmap getSampled(Object owner, int resId, int width, int height) {
+        Key key = new Key(resId, width, height, KIND_SAMPLED);
+        return getOrDecode(owner, key,
+                () -> BitmapLoader.decodeSampled(context.getResources(), resId, width, height));
+    }
+
+    /**
+     * Returns a sampled image that is already cached and pins it for an owner.
+     * Never decodes, so it is safe to call on the main thread.
+     *
+     * @param owner - The object showing the image
+     * @param resId - The resource ID of the image
+     * @param width - The width it was sampled for, as passed to getSampled()
+     * @param height - The height it was sampled for, as passed to getSampled()
+     * @return The shared bitmap, or null if it is not in the cache
+     */
+    public synchronized Bitmap peekSampled(Object owner, int resId, int width, int height) {
+        Entry entry = entries.get(new Key(resId, width, height, KIND_SAMPLED));
+        return entry == null ? null : entry.pin(owner);
+    }
+
+    /**
+     * Returns a vector drawable rasterized at the given size, rendering it on first
+     * use or loading it from the disk cache if an earlier launch rendered it.
+     *
+     * @param resId - The resource ID of the vector drawable
+     * @param width - The width in pixels
+     * @param height - The height in pixels
+     * @return The shared bitmap
+     */
+    public Bitmap getVector(int resId, int width, int height) {
+        Key key = new Key(resId, width, height, KIND_VECTOR);
+        return getOrDecode(null, key, () -> {
+            Bitmap bitmap = readFromDisk(key);
+            if (bitmap == null) {
+                bitmap = BitmapLoader.decodeVector(context, resId, width, height);
+                writeToDisk(key, bitmap);
+            }
+            return bitmap;
+        });
+    }
+
+    /**
+     * Turns the on-disk copies of rasterized vectors and scaled icons on or off.
+     * The files live in the app's cache directory, one folder per installed version.
+     *
+     * @param enabled - Whether to read and write the disk cache
+     */
+    public synchronized void setDiskCacheEnabled(boolean enabled) {
+        if (!enabled) {
+            diskCache = null;
+            return;
+        }
+        if (diskCache != null) {
+            return;
+        }
+        try {
+            long installed = context.getPackageManager()
+                    .getPackageInfo(context.getPackageName(), 0).lastUpdateTime;
+            diskCache = new RasterDiskCache(new File(context.getCacheDir(), "raster"),
+                    Long.toString(installed));
+        } catch (PackageManager.NameNotFoundException e) {
+            Log.w(TAG, "disk cache disabled", e);
+        }
+    }
+
+    /**
+     * Decodes every given resource at its natural size so later lookups are instant.
+     *
+     * @param resIds - The resource IDs to decode
+     */
+    public void preload(int... resIds) {
+        for (int resId : resIds) {
+            get(resId);
+        }
+    }
+
+    /**
+     * Unpins every image pinned by an owner, then evicts images until the cache
+     * is back within its budget. Pins of other owners, including other instances
+     * of the same screen, are kept. The owner must no longer use the bitmaps.
+     *
+     * @param owner - The object that stopped showing its images
+     */
+    public synchronized void release(Object owner) {
+        for (Entry entry : entries.values()) {
+            entry.owners.remove(owner);
+        }
+        trimTo(budgetBytes);
+        Log.d(TAG, owner.getClass().getSimpleName() + " released: " + summary());
+    }
+
+    /**
+     * Sets the most bytes the cache should hold and evicts unpinned images that
+     * no longer fit. Pinned images can take the cache over budget.
+     *
+     * @param budgetBytes - The budget in bytes
+     */
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        trimTo(budgetBytes);
+    }
+
+    public synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Returns the bytes taken by all cached bitmaps, as reported by
+     * Bitmap.getAllocationByteCount().
+     *
+     * @return The used bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Formats the current usage as one line for logs.
+     *
+     * @return The image count, used bytes and budget
+     */
+    public synchronized String summary() {
+        int pinned = 0;
+        for (Entry entry : entries.values()) {
+            if (!entry.owners.isEmpty()) {
+                pinned++;
+            }
+        }
+        return String.format(Locale.US, "images=%d pinned=%d used=%.1f MB budget=%.1f MB",
+                entries.size(), pinned, usedBytes / 1048576.0, budgetBytes / 1048576.0);
+    }
+
+    /**
+     * Drops all cached bitmaps. Bitmaps already handed out stay valid.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * Drops unpinned images once the app is in the background and the system needs memory.
+     *
+     * @param level - The memory trim level
+     */
+    @Override
+    public synchronized void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_BACKGROUND) {
+            trimTo(0);
+        }
+    }
+
+    @Override
+    public synchronized void onLowMemory() {
+        trimTo(0);
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+
+    /**
+     * Looks an image up and pins it, decoding it on a miss. The map is checked
+     * under the lock, the decode runs outside it, and the map is checked again
+     * before inserting, because another thread may have decoded the same image
+     * meanwhile.
+     */
+    private Bitmap getOrDecode(Object owner, Key key, Decoder decoder) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                return entry.pin(owner);
+            }
+        }
+        Bitmap bitmap = decoder.decode();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = put(key, bitmap);
+            }
+            return entry.pin(owner);
+        }
+    }
+
+    /**
+     * Loads a bitmap rendered by an earlier launch, if the disk cache has one.
+     * Runs without the lock, like the decode it saves.
+     */
+    private Bitmap readFromDisk(Key key) {
+        RasterDiskCache disk = diskCache;
+        return disk == null ? null : disk.read(key.fileName(context), key.width, key.height);
+    }
+
+    /**
+     * Stores a freshly rendered bitmap for later launches. Compressing and writing
+     * the PNG is slow, so it also runs without the lock.
+     */
+    private void writeToDisk(Key key, Bitmap bitmap) {
+        RasterDiskCache disk = diskCache;
+        if (disk != null) {
+            disk.write(key.fileName(context), bitmap);
+        }
+    }
+
+    /**
+     * Adds a decoded bitmap, making room for it first.
+     */
+    private Entry put(Key key, Bitmap bitmap) {
+        Entry entry = new Entry(bitmap);
+        trimTo(budgetBytes - entry.bytes);
+        entries.put(key, entry);
+        usedBytes += entry.bytes;
+        return entry;
+    }
+
+    /**
+     * Evicts the least recently used unpinned images until at most the given
+     * number of bytes are used.
+     */
+    private void trimTo(long maxBytes) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.owners.isEmpty()) {
+                iterator.remove();
+                usedBytes -= entry.bytes;
+            }
+        }
+    }
+
+    /**
+     * A cached bitmap with its size and the owners that currently show it.
+     */
+    private static final class Entry {
+        final Bitmap bitmap;
+        final int bytes;
+        final Set<Object> owners = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Entry(Bitmap bitmap) {
+            this.bitmap = bitmap;
+            this.bytes = bitmap.getAllocationByteCount();
+        }
+
+        Bitmap pin(Object owner) {
+            if (owner != null) {
+                owners.add(owner);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Cache key made of a resource id, a target size and how the image is decoded.
+     */
+    private static final class Key {
+        final int resId, width, height, kind;
+
+        Key(int resId, int width, int height, int kind) {
+            this.resId = resId;
+            this.width = width;
+            this.height = height;
+            this.kind = kind;
+        }
+
+        /**
+         * Returns the name the bitmap is stored under in the disk cache.
+         */
+        String fileName(Context context) {
+            return context.getResources().getResourceEntryName(resId)
+                    + "-" + kind + "-" + width + "x" + height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return resId == other.resId && width == other.width && height == other.height
+                    && kind == other.kind;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((resId * 31 + width) * 31 + height) * 31 + kind;
+        }
+    }
+}
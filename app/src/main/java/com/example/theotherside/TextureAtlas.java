@@ -0,0 +1,132 @@
+/*
+ * This file contains the TextureAtlas class which packs the small in-game images
+ * (sprites and HUD icons) into one bitmap at runtime. Everything is then drawn
+ * from a single texture using a source rectangle per image, so the GPU doesn't
+ * have to switch textures between sprites.
+ *
+ * The class manages:
+ * - Shelf packing of images into one atlas bitmap
+ * - Source rectangles and sizes of each packed image (region)
+ * - Drawing single regions with a source and destination rectangle
+ *
+ */
+
+package com.example.theotherside;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * One bitmap holding many images. Images are added to a Builder, which returns a
+ * region index for each, and packed when the atlas is built. draw() reuses its
+ * destination rectangle, so it must only be called from one thread.
+ */
+public class TextureAtlas {
+    private static final int MAX_WIDTH = 2048;
+    private static final int PADDING = 2; // transparent gap so filtering never samples a neighbour
+
+    private final Bitmap bitmap;
+    private final Rect[] regions;
+    private final RectF destination = new RectF();
+
+    private TextureAtlas(Bitmap bitmap, Rect[] regions) {
+        this.bitmap = bitmap;
+        this.regions = regions;
+    }
+
+    /**
+     * Collects the images for an atlas.
+     */
+    public static class Builder {
+        private final ArrayList<Bitmap> images = new ArrayList<>();
+
+        /**
+         * Adds an image to the atlas.
+         *
+         * @param image - The image to pack; it is copied, so it can be shared or cached
+         * @return The region index of the image in the built atlas
+         */
+        public int add(Bitmap image) {
+            images.add(image);
+            return images.size() - 1;
+        }
+
+        /**
+         * Packs all added images into rows (tallest first) and draws them into a
+         * new atlas bitmap.
+         *
+         * @return The built atlas
+         */
+        public TextureAtlas build() {
+            int count = images.size();
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt((Integer i) -> images.get(i).getHeight()).reversed());
+
+            // Fill rows left to right; a new row starts below the tallest image of the last one
+            Rect[] regions = new Rect[count];
+            int x = PADDING, y = PADDING, rowHeight = 0, width = 0;
+            for (int i : order) {
+                Bitmap image = images.get(i);
+                if (x + image.getWidth() + PADDING > MAX_WIDTH && x > PADDING) {
+                    x = PADDING;
+                    y += rowHeight + PADDING;
+                    rowHeight = 0;
+                }
+                regions[i] = new Rect(x, y, x + image.getWidth(), y + image.getHeight());
+                x += image.getWidth() + PADDING;
+                rowHeight = Math.max(rowHeight, image.getHeight());
+                width = Math.max(width, x);
+            }
+            int height = y + rowHeight + PADDING;
+
+            Bitmap atlas = Bitmap.createBitmap(Math.max(width, 1), height, Bitmap.Config.ARGB_8888);
+            Canvas canvas = new Canvas(atlas);
+            for (int i = 0; i < count; i++) {
+                canvas.drawBitmap(images.get(i), regions[i].left, regions[i].top, null);
+            }
+            // The atlas never changes after packing, so keep it in GPU memory where supported
+            return new TextureAtlas(BitmapLoader.toHardware(atlas), regions);
+        }
+    }
+
+    /**
+     * Draws one region at its natural size.
+     *
+     * @param canvas - The canvas to draw on
+     * @param region - The region index
+     * @param x - The left edge on the canvas
+     * @param y - The top edge on the canvas
+     * @param paint - The paint to draw with, may be null
+     */
+    public void draw(Canvas canvas, int region, float x, float y, Paint paint) {
+        Rect source = regions[region];
+        destination.set(x, y, x + source.width(), y + source.height());
+        canvas.drawBitmap(bitmap, source, destination, paint);
+    }
+
+    public Bitmap getBitmap() {
+        return bitmap;
+    }
+
+    public Rect getRegion(int region) {
+        return regions[region];
+    }
+
+    public int getRegionWidth(int region) {
+        return regions[region].width();
+    }
+
+    public int getRegionHeight(int region) {
+        return regions[region].height();
+    }
+}
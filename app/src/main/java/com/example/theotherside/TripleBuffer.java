@@ -0,0 +1,90 @@
+/*
+ * This file contains the TripleBuffer class which hands values from one producer
+ * thread to one consumer thread without locks. The producer always has a buffer
+ * to write into and the consumer always has the latest complete buffer to read,
+ * so neither side ever waits for the other.
+ *
+ * The class manages:
+ * - The three buffers and which thread owns each of them
+ * - Atomic exchange of the shared middle buffer
+ * - Tracking whether a newer buffer has been published
+ *
+ */
+
+package com.example.theotherside;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free single-producer, single-consumer triple buffer.
+ * The producer fills getWriteBuffer() and calls publish(); the consumer calls
+ * getReadBuffer() and gets the most recently published buffer. A buffer is
+ * never handed to the producer while the consumer can still read it.
+ *
+ * @param <T> - The type of the buffered values
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0x3;
+    private static final int FRESH = 0x4;
+
+    private final Object[] buffers;
+    // Index of the shared middle buffer, plus the FRESH bit when it holds unread data
+    private final AtomicInteger middle;
+    private int writeIndex; // owned by the producer
+    private int readIndex; // owned by the consumer
+
+    /**
+     * Creates a triple buffer over three distinct buffer instances.
+     *
+     * @param first - The initial read buffer
+     * @param second - The initial shared buffer
+     * @param third - The initial write buffer
+     */
+    public TripleBuffer(T first, T second, T third) {
+        buffers = new Object[] {first, second, third};
+        readIndex = 0;
+        middle = new AtomicInteger(1);
+        writeIndex = 2;
+    }
+
+    /**
+     * Returns the buffer the producer may fill. Only call from the producer thread.
+     *
+     * @return The current write buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * Publishes the write buffer to the consumer and takes the shared buffer
+     * as the next write buffer. Only call from the producer thread.
+     */
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns whether a buffer was published since the consumer last read.
+     *
+     * @return true if getReadBuffer() would return a newer buffer
+     */
+    public boolean hasUpdate() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    /**
+     * Returns the most recently published buffer. The returned buffer stays
+     * untouched by the producer until the next call. Only call from the consumer thread.
+     *
+     * @return The latest published buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadBuffer() {
+        if (hasUpdate()) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+}
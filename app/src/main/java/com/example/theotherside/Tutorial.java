@@ -5,22 +5,27 @@ import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.widget.CheckBox;
 import android.widget.ImageButton;
+import android.widget.ImageView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 
 public class Tutorial extends AppCompatActivity {
+    private ScreenImages images;
 
     // UI elements
     private CheckBox dontShowTut;
     private ImageButton closeTutorialButton;
+    private ImageView howToPlayImage;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.screen_how_to_play);
+        images = new ScreenImages(this);
 
         dontShowTut = findViewById(R.id.dontShowTut);
         closeTutorialButton = findViewById(R.id.imageButton);
+        howToPlayImage = findViewById(R.id.imageView3);
 
         SharedPreferences sharedPreferences = getSharedPreferences("tutorialPrefs", MODE_PRIVATE);
         boolean dontShowAgain = sharedPreferences.getBoolean("dontShowAgain", false);
@@ -48,10 +53,28 @@ public class Tutorial extends AppCompatActivity {
         });
     }
 
+    /**
+     * Shows the how-to-play image, pinned in the image cache while the tutorial is visible.
+     */
+    @Override
+    protected void onStart() {
+        super.onStart();
+        images.show(howToPlayImage, R.drawable.how_to_play);
+    }
+
+    /**
+     * Clears the how-to-play image so the cache may evict it while the tutorial is hidden.
+     */
+    @Override
+    protected void onStop() {
+        super.onStop();
+        images.release(howToPlayImage);
+    }
+
     // navigate to ScreenHighScore
     private void navigateToScreenHighScore() {
         Intent intent = new Intent(Tutorial.this, ScreenHighScore.class);
         startActivity(intent);
         finish(); // Tutorial activity is closed
     }
-}
\ No newline at end of file
+}
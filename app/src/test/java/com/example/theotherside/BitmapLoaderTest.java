@@ -0,0 +1,35 @@
+package com.example.theotherside;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the bitmap sample size calculation.
+ */
+public class BitmapLoaderTest {
+
+    @Test
+    public void testNoSamplingWhenTargetIsLarger() {
+        assertEquals(1, BitmapLoader.calculateInSampleSize(100, 100, 100, 100));
+        assertEquals(1, BitmapLoader.calculateInSampleSize(100, 100, 300, 300));
+    }
+
+    @Test
+    public void testSampledImageStaysAtLeastTargetSize() {
+        // Road background on a 1080x2400 screen
+        assertEquals(1, BitmapLoader.calculateInSampleSize(1080, 1916, 1080, 2400));
+        // Road background on a small 480x800 screen
+        assertEquals(2, BitmapLoader.calculateInSampleSize(1080, 1916, 480, 800));
+        // HUD icons at button size
+        assertEquals(1, BitmapLoader.calculateInSampleSize(100, 100, 60, 60));
+        assertEquals(4, BitmapLoader.calculateInSampleSize(1000, 1000, 200, 200));
+    }
+
+    @Test
+    public void testBothDimensionsLimitSampling() {
+        // Wide target keeps full resolution even though the height could be halved
+        assertEquals(1, BitmapLoader.calculateInSampleSize(1000, 1000, 900, 100));
+        assertEquals(1, BitmapLoader.calculateInSampleSize(1000, 1000, 100, 900));
+    }
+}
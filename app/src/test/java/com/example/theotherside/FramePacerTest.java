@@ -0,0 +1,95 @@
+package com.example.theotherside;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for vsync pacing in continuous and on-demand mode.
+ */
+public class FramePacerTest {
+    private static final long VSYNC_120HZ = 8_333_333L;
+    private static final long TARGET_60FPS = 16_666_667L;
+    private static final long START = 1_000_000_000L; // vsync timestamps are never 0
+
+    private int vsyncRequests;
+    private final FramePacer pacer = new FramePacer(() -> vsyncRequests++);
+
+    @Test
+    public void testRequestRightAfterLeavingContinuousModeRuns() {
+        // A continuous frame, after which the listener switches to on-demand mode
+        assertTrue(pacer.onVsync(START, VSYNC_120HZ, TARGET_60FPS, true));
+
+        // A frame requested right away lands on the next vsync, which is too early
+        vsyncRequests = 0;
+        assertFalse(pacer.onVsync(START + VSYNC_120HZ, VSYNC_120HZ, TARGET_60FPS, false));
+
+        // The frame is postponed to the following vsync, not dropped
+        assertEquals(1, vsyncRequests);
+        assertTrue(pacer.onVsync(START + 2 * VSYNC_120HZ, VSYNC_120HZ, TARGET_60FPS, false));
+    }
+
+    @Test
+    public void testOnDemandFramesAreNotPacedAgainstEachOther() {
+        assertTrue(pacer.onVsync(START, VSYNC_120HZ, TARGET_60FPS, false));
+        assertTrue(pacer.onVsync(START + VSYNC_120HZ, VSYNC_120HZ, TARGET_60FPS, false));
+        assertEquals(0, vsyncRequests);
+    }
+
+    /**
+     * Feeds consecutive vsyncs at a refresh rate to the pacer and returns which
+     * of them ran a frame.
+     */
+    private boolean[] runVsyncs(int count, float refreshRate, FrameRateMode mode, boolean continuous) {
+        long vsyncNanos = (long) (1_000_000_000L / refreshRate);
+        long targetNanos = Math.max((long) (1_000_000_000L / mode.getTargetFps(refreshRate)), vsyncNanos);
+        boolean[] ran = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            ran[i] = pacer.onVsync(START + i * vsyncNanos, vsyncNanos, targetNanos, continuous);
+        }
+        return ran;
+    }
+
+    @Test
+    public void testPowerSaverRunsEveryFourthVsyncAt120Hz() {
+        boolean[] ran = runVsyncs(9, 120f, FrameRateMode.POWER_SAVER_30, true);
+
+        for (int i = 0; i < ran.length; i++) {
+            assertEquals("vsync " + i, i % 4 == 0, ran[i]);
+        }
+        // Skipping vsyncs on purpose doesn't count as missing them
+        assertEquals(0, pacer.getSkippedVsyncs());
+    }
+
+    @Test
+    public void testPowerSaverPostponesRequestAfterContinuousFrame() {
+        // The last continuous frame, then on-demand requests on every following vsync
+        runVsyncs(1, 120f, FrameRateMode.POWER_SAVER_30, true);
+        vsyncRequests = 0;
+        long vsyncNanos = (long) (1_000_000_000L / 120f);
+        long targetNanos = (long) (1_000_000_000L / 30f);
+
+        int vsync = 1;
+        while (!pacer.onVsync(START + vsync * vsyncNanos, vsyncNanos, targetNanos, false)) {
+            vsync++;
+        }
+
+        // Held back until the 30 fps interval has passed, asking for a vsync each time
+        assertEquals(4, vsync);
+        assertEquals(3, vsyncRequests);
+    }
+
+    @Test
+    public void testSixtyFpsModeRunsEveryOtherVsyncAt120Hz() {
+        boolean[] ran = runVsyncs(6, 120f, FrameRateMode.FPS_60, true);
+
+        assertArrayEquals(new boolean[] {true, false, true, false, true, false}, ran);
+    }
+
+    @Test
+    public void testNativeModeRunsEveryVsync() {
+        boolean[] ran = runVsyncs(4, 120f, FrameRateMode.NATIVE, true);
+
+        assertArrayEquals(new boolean[] {true, true, true, true}, ran);
+    }
+}
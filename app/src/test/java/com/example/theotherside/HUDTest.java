@@ -0,0 +1,31 @@
+package com.example.theotherside;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the HUD's allocation-free number formatting.
+ */
+public class HUDTest {
+
+    private static String write(String prefix, int value) {
+        char[] buffer = new char[prefix.length() + 11];
+        prefix.getChars(0, prefix.length(), buffer, 0);
+        int end = HUD.writeNumber(buffer, prefix.length(), value);
+        return new String(buffer, 0, end);
+    }
+
+    @Test
+    public void testWriteNumberAfterPrefix() {
+        assertEquals("0", write("", 0));
+        assertEquals("SCORE: 1205", write("SCORE: ", 1205));
+    }
+
+    @Test
+    public void testWriteNumberExtremes() {
+        assertEquals("-42", write("", -42));
+        assertEquals(String.valueOf(Integer.MAX_VALUE), write("", Integer.MAX_VALUE));
+        assertEquals(String.valueOf(Integer.MIN_VALUE), write("", Integer.MIN_VALUE));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.theotherside;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for saving each run's coins exactly once.
+ */
+public class RunCoinsTest {
+
+    @Test
+    public void testCrashSavesEveryCoinOnce() {
+        RunCoins coins = new RunCoins();
+        coins.setCollected(5);
+
+        assertEquals(5, coins.takeUnsaved()); // crash
+        assertEquals(0, coins.takeUnsaved()); // pause on the game over screen
+        assertEquals(0, coins.takeUnsaved()); // pause again
+    }
+
+    @Test
+    public void testPauseDuringRunThenCrashSavesOnlyNewCoins() {
+        RunCoins coins = new RunCoins();
+        coins.setCollected(3);
+        assertEquals(3, coins.takeUnsaved()); // pause mid-run
+
+        coins.setCollected(7);
+        assertEquals(4, coins.takeUnsaved()); // crash
+    }
+
+    @Test
+    public void testStartRunForgetsThePreviousRun() {
+        RunCoins coins = new RunCoins();
+        coins.setCollected(6);
+        coins.takeUnsaved();
+
+        coins.startRun();
+        assertEquals(0, coins.getCollected());
+        coins.setCollected(2);
+        assertEquals(2, coins.takeUnsaved());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.theotherside;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the lock-free triple buffer.
+ */
+public class TripleBufferTest {
+
+    @Test
+    public void testReaderSeesLatestPublished() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(new int[1], new int[1], new int[1]);
+
+        buffer.getWriteBuffer()[0] = 1;
+        buffer.publish();
+        buffer.getWriteBuffer()[0] = 2;
+        buffer.publish();
+
+        assertTrue(buffer.hasUpdate());
+        assertEquals(2, buffer.getReadBuffer()[0]);
+        assertFalse(buffer.hasUpdate());
+    }
+
+    @Test
+    public void testReadBufferStableWithoutPublish() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(new int[1], new int[1], new int[1]);
+
+        buffer.getWriteBuffer()[0] = 7;
+        buffer.publish();
+        int[] read = buffer.getReadBuffer();
+
+        // The producer keeps writing but never into the buffer being read
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(read, buffer.getWriteBuffer());
+            buffer.getWriteBuffer()[0] = 100 + i;
+        }
+        assertSame(read, buffer.getReadBuffer());
+        assertEquals(7, read[0]);
+    }
+
+    @Test
+    public void testConcurrentHandoff() throws InterruptedException {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(new long[2], new long[2], new long[2]);
+        final int count = 200_000;
+
+        Thread producer = new Thread(() -> {
+            for (long i = 1; i <= count; i++) {
+                long[] values = buffer.getWriteBuffer();
+                values[0] = i;
+                values[1] = -i;
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        // Values must never go backwards and never be half-written
+        long last = 0;
+        while (last < count) {
+            long[] values = buffer.getReadBuffer();
+            assertEquals(values[0], -values[1]);
+            assertTrue(values[0] >= last);
+            last = values[0];
+        }
+        producer.join();
+    }
+}
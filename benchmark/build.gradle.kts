@@ -0,0 +1,20 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    jmh(project(":engine"))
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    // Run a subset with e.g. -PjmhIncludes=SpawnBenchmark
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,148 @@
+/*
+ * This file contains the BenchmarkWorld class which sets up a GameWorld in a
+ * repeatable state for the JMH benchmarks: a given number of carts and coins
+ * on screen and the game running at a given speed multiplier.
+ *
+ * The class manages:
+ * - World creation on a virtual clock with a fixed random seed
+ * - Advancing game time to reach a speed multiplier
+ * - Placing carts and coins, optionally some about to leave the screen
+ * - Restoring the starting positions between benchmark invocations
+ * - Batches of identical worlds, so one invocation can measure many calls
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Random;
+
+/**
+ * A GameWorld filled with entities for benchmarking. Carts and coins are kept out
+ * of the chicken's lane so the game never ends and no coin gets collected, which
+ * keeps the work per call the same from one invocation to the next.
+ */
+class BenchmarkWorld {
+    static final float SCREEN_WIDTH = 1080f;
+    static final float SCREEN_HEIGHT = 2340f;
+    static final int LANE_COUNT = 4;
+    private static final long SEED = 42;
+
+    final WorldConfig config;
+    final VirtualGameClock clock;
+    final GameWorld world;
+    private final Random random = new Random(SEED);
+    private Cart[] carts = new Cart[0];
+    private Coin[] coins = new Coin[0];
+
+    /**
+     * Creates a world with the game clock advanced to the given speed multiplier.
+     *
+     * @param speedMultiplier - The speed multiplier to reach, at most the maximum speed
+     */
+    BenchmarkWorld(float speedMultiplier) {
+        config = new WorldConfig(SCREEN_WIDTH, SCREEN_HEIGHT, LANE_COUNT)
+                .setSpriteSize(Sprite.CHICKEN, 160f, 190f)
+                .setSpriteSize(Sprite.COIN, 90f, 90f)
+                .setSpriteSize(Sprite.CART_NO_HAY, 220f, 330f)
+                .setSpriteSize(Sprite.CART_HAY, 220f, 330f);
+        clock = new VirtualGameClock();
+        world = new GameWorld(config, clock, new Random(SEED));
+
+        // The multiplier grows by 0.1 per 8 seconds of game time
+        clock.advanceMillis((long) ((speedMultiplier - 1f) * 80_000f));
+        world.updateSpeed(clock.uptimeMillis());
+    }
+
+    /**
+     * Creates identical populated worlds. A benchmark whose call changes the
+     * world runs it once on every world of a batch per invocation, so restoring
+     * the batch in invocation setup costs little next to the measured work.
+     *
+     * @param size - The number of worlds
+     * @param speedMultiplier - The speed multiplier of every world
+     * @param entityCount - The number of carts, and of coins, in every world
+     * @param offScreenPercent - The share of entities placed just below the screen
+     * @return The worlds
+     */
+    static BenchmarkWorld[] batch(int size, float speedMultiplier, int entityCount,
+                                  int offScreenPercent) {
+        BenchmarkWorld[] worlds = new BenchmarkWorld[size];
+        for (int i = 0; i < size; i++) {
+            worlds[i] = new BenchmarkWorld(speedMultiplier);
+            worlds[i].populate(entityCount, entityCount, offScreenPercent);
+        }
+        return worlds;
+    }
+
+    /**
+     * Puts every world of a batch back at its starting positions.
+     *
+     * @param worlds - The worlds to restore
+     */
+    static void restoreAll(BenchmarkWorld[] worlds) {
+        for (BenchmarkWorld world : worlds) {
+            world.restore();
+        }
+    }
+
+    /**
+     * Places carts and coins spread over the lanes the chicken is not in.
+     *
+     * @param cartCount - The number of carts
+     * @param coinCount - The number of coins
+     * @param offScreenPercent - The share of entities placed just below the screen
+     */
+    void populate(int cartCount, int coinCount, int offScreenPercent) {
+        int chickenLane = world.getChicken().getLane();
+        carts = new Cart[cartCount];
+        for (int i = 0; i < cartCount; i++) {
+            carts[i] = new Cart();
+            carts[i].reset(config, random, i, otherLane(i, chickenLane));
+            carts[i].posY = startY(i, cartCount, offScreenPercent);
+        }
+        coins = new Coin[coinCount];
+        for (int i = 0; i < coinCount; i++) {
+            coins[i] = new Coin();
+            coins[i].reset(config, random, otherLane(i, chickenLane));
+            coins[i].posY = startY(i, coinCount, offScreenPercent);
+        }
+        restore();
+    }
+
+    /**
+     * Puts every entity back at its starting position, re-adding removed ones.
+     */
+    void restore() {
+        Entities entities = world.getEntities();
+        int chickenLane = world.getChicken().getLane();
+        entities.clear();
+        for (int i = 0; i < carts.length; i++) {
+            int cart = entities.spawn(carts[i], Cart.COMPONENTS);
+            entities.setLane(cart, otherLane(i, chickenLane));
+        }
+        for (int i = 0; i < coins.length; i++) {
+            int coin = entities.spawn(coins[i], Coin.COMPONENTS);
+            entities.setLane(coin, otherLane(i, chickenLane));
+        }
+        world.getLanes().rebuild(entities);
+    }
+
+    /**
+     * Returns a lane index other than the chicken's, cycling through the rest.
+     */
+    private static int otherLane(int index, int chickenLane) {
+        int lane = index % (LANE_COUNT - 1);
+        return lane >= chickenLane ? lane + 1 : lane;
+    }
+
+    /**
+     * Spreads entities from above the screen to its bottom edge. The first
+     * offScreenPercent of them start at the bottom edge and leave on the next move.
+     */
+    private static float startY(int index, int count, int offScreenPercent) {
+        if (index * 100 < count * offScreenPercent) {
+            return SCREEN_HEIGHT;
+        }
+        return -400f + (SCREEN_HEIGHT * index) / count;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file contains the RemovalBenchmark class which measures a movement tick
+ * in which part of the carts and coins leave the screen and are removed.
+ *
+ * The class manages:
+ * - A benchmark for GameWorld.moveEntities with removals
+ * - Parameters for entity count, speed multiplier and share leaving the screen
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures off-screen removal. The first offScreenPercent of the carts and coins
+ * start at the bottom edge, so they leave the screen during the measured tick.
+ * Like MovementBenchmark, each invocation ticks a batch of identical worlds and
+ * reports the time per world; removed entities are put back before the next
+ * invocation, outside the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemovalBenchmark {
+    private static final int WORLDS = 64;
+
+    @Param({"4", "16", "64", "256"})
+    public int entityCount;
+
+    @Param({"1.0", "6.0"})
+    public float speedMultiplier;
+
+    @Param({"25", "100"})
+    public int offScreenPercent;
+
+    private BenchmarkWorld[] worlds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        worlds = BenchmarkWorld.batch(WORLDS, speedMultiplier, entityCount, offScreenPercent);
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        BenchmarkWorld.restoreAll(worlds);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WORLDS)
+    public int moveAndRemove() {
+        int entities = 0;
+        for (BenchmarkWorld state : worlds) {
+            state.world.moveEntities();
+            entities += state.world.getEntities().size();
+        }
+        return entities;
+    }
+}
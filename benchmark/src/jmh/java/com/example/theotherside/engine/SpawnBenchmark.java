@@ -0,0 +1,88 @@
+/*
+ * This file contains the SpawnBenchmark class which measures cart and coin
+ * spawning, including the escape-lane and busy-lane lookups in the lane index.
+ *
+ * The class manages:
+ * - Benchmarks for GameWorld.spawnCarts and GameWorld.spawnCoins
+ * - Parameters for entity count and speed multiplier
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one spawn pass. Game time jumps past the spawn interval before every
+ * call so a spawn always happens, and anything spawned is dropped again so the
+ * number of existing entities stays at the parameter value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+    private static final long SPAWN_STEP_MILLIS = 10_000;
+
+    @Param({"4", "16", "64", "256"})
+    public int entityCount;
+
+    @Param({"1.0", "3.0", "6.0"})
+    public float speedMultiplier;
+
+    private BenchmarkWorld state;
+    private LaneIndex populatedLanes;
+    private long time;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        state = new BenchmarkWorld(speedMultiplier);
+        state.populate(entityCount, entityCount, 0);
+        populatedLanes = new LaneIndex(BenchmarkWorld.LANE_COUNT, BenchmarkWorld.SCREEN_HEIGHT);
+        populatedLanes.copyFrom(state.world.getLanes());
+        time = state.clock.uptimeMillis();
+    }
+
+    @Benchmark
+    public int spawnCarts() {
+        time += SPAWN_STEP_MILLIS;
+        state.world.spawnCarts(time);
+        return trim(state.world.getEntities());
+    }
+
+    @Benchmark
+    public int spawnCoins() {
+        time += SPAWN_STEP_MILLIS;
+        state.world.spawnCoins(time);
+        return trim(state.world.getEntities());
+    }
+
+    /**
+     * Drops entities added by the last spawn and puts the lane index back.
+     *
+     * @return The number of entities that were spawned
+     */
+    private int trim(Entities entities) {
+        int spawned = entities.size() - 2 * entityCount;
+        for (int i = 0; i < spawned; i++) {
+            entities.removeRow(entities.size() - 1);
+        }
+        state.world.getLanes().copyFrom(populatedLanes);
+        return spawned;
+    }
+}
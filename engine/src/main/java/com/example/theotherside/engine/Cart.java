@@ -0,0 +1,78 @@
+/*
+ * This file contains the Cart class which extends GameObject to describe the
+ * vehicles that move down the screen in specific lanes. A Cart is a spawn
+ * prefab: the spawn system places it and copies it into a new entity, and the
+ * movement system moves the entity from then on.
+ *
+ * The class manages:
+ * - Cart positioning in lanes
+ * - Different cart sprite selection
+ * - The components of a cart entity
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Random;
+
+/**
+ * Prefab of a cart entity. Extends GameObject for its position, size and sprite,
+ * which Entities.spawn() copies into the entity.
+ */
+public class Cart extends GameObject {
+    /** Components and tags of the entity spawned from a cart. */
+    public static final int COMPONENTS = Entities.TRANSFORM | Entities.HITBOX | Entities.SPRITE
+            | Entities.LANE | Entities.SCROLLS | Entities.OBSTACLE;
+
+    /**
+     * Creates a cart to use as a prefab. It is placed by reset() before it is used.
+     */
+    Cart() {
+        super(0, 0, 0, 0, Sprite.CART_NO_HAY);
+    }
+
+    /**
+     * Places this prefab as a new cart of the given type above a lane.
+     *
+     * @param config - The world configuration providing screen, lane and sprite sizes
+     * @param random - The random source used to vary the starting position
+     * @param cartType - The type of cart (determines sprite)
+     * @param lane - The lane to place the cart in
+     */
+    public void reset(WorldConfig config, Random random, int cartType, int lane) {
+        this.sprite = getCartSprite(cartType);
+        this.width = config.getSpriteWidth(sprite);
+        this.height = config.getSpriteHeight(sprite);
+        this.isAlive = true;
+        float laneWidth = config.getLaneWidth();
+
+        // Use the provided lane instead of a random one
+        this.posX = lane * laneWidth + (laneWidth - width) / 2;
+
+        // Randomize the starting position slightly within the lane to avoid carts appearing in a line
+        this.posX += (random.nextFloat() * 10) - 5; // Shift by -5 to +5 pixels
+
+        // Vary starting position vertically to avoid carts being exactly lined up
+        this.posY = -height - (random.nextFloat() * 100);
+
+        update();
+        savePreviousPosition();
+    }
+
+
+    /**
+     * Determines which cart sprite to use based on the cart type.
+     * Maps cart types to specific sprites using modulo operation
+     * to cycle through available cart sprites.
+     *
+     * @param cartType - The type of cart to get the sprite for
+     * @return The sprite for the specified cart type
+     */
+    private static Sprite getCartSprite(int cartType) {
+        if (cartType % 2 == 0) {
+            return Sprite.CART_NO_HAY;
+        } else {
+            return Sprite.CART_HAY;
+        }
+    }
+}
\ No newline at end of file
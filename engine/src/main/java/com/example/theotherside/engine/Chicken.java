@@ -8,14 +8,11 @@
  * - Chicken positioning in lanes
  * - Left and right movement between lanes
  * - Lane boundary checking
- * - Initial placement at screen bottom
+ * - Initial placement at screen bottom, and returning there for a new game
  *
  */
 
-package com.example.theotherside;
-
-import android.content.Context;
-import android.graphics.BitmapFactory;
+package com.example.theotherside.engine;
 
 /**
  * Represents the player-controlled chicken character in the game that moves
@@ -34,26 +31,34 @@ public class Chicken extends GameObject {
      * Creates a new chicken instance with specified parameters.
      * Places the chicken in the middle lane at the bottom of the screen.
      *
-     * @param context - The application context used to load chicken resources
-     * @param screenWidth - The width of the game screen
-     * @param screenHeight - The height of the game screen
-     * @param laneCount - The number of lanes available for movement
+     * @param config - The world configuration providing screen, lane and sprite sizes
      */
-    public Chicken(Context context, float screenWidth, float screenHeight, int laneCount) {
-        super(0, 0, BitmapFactory.decodeResource(context.getResources(), R.drawable.chicken));
+    public Chicken(WorldConfig config) {
+        super(0, 0, config.getSpriteWidth(Sprite.CHICKEN), config.getSpriteHeight(Sprite.CHICKEN),
+                Sprite.CHICKEN);
+
+        this.laneCount = config.getLaneCount();
+        this.laneWidth = config.getLaneWidth();
+        this.screenHeight = config.getScreenHeight();
 
-        this.laneCount = laneCount;
-        this.laneWidth = screenWidth / laneCount;
-        this.screenHeight = screenHeight;
+        reset();
+    }
 
+    /**
+     * Puts the chicken back in the middle lane at the bottom of the screen for a
+     * new game, so the same instance can be reused.
+     */
+    public void reset() {
         // Start in middle lane
-        this.currentLane = laneCount / 2;
+        currentLane = laneCount / 2;
 
         // Position chicken at bottom of screen
-        this.posX = currentLane * laneWidth + (laneWidth - width) / 2;
-        this.posY = screenHeight - height - 50; // Small gap from bottom
+        posX = currentLane * laneWidth + (laneWidth - width) / 2;
+        posY = screenHeight - height - 50; // Small gap from bottom
+        isAlive = true;
 
         update();
+        savePreviousPosition();
     }
 
     /**
@@ -79,4 +84,13 @@ public class Chicken extends GameObject {
             update();
         }
     }
+
+    /**
+     * Returns the lane the chicken is currently in.
+     *
+     * @return The current lane index
+     */
+    public int getLane() {
+        return currentLane;
+    }
 }
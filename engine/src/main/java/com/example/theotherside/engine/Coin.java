@@ -0,0 +1,59 @@
+/*
+ * This file contains the Coin class which extends GameObject to describe the
+ * collectible coins that fall down the screen in specific lanes. Like Cart, it
+ * is only a spawn prefab; the entity copied from it is moved by the movement
+ * system at the coin's own speed.
+ *
+ * The class manages:
+ * - Coin positioning in lanes
+ * - The fall speed given to coin entities
+ * - The components of a coin entity
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Random;
+
+public class Coin extends GameObject {
+    /** Components and tags of the entity spawned from a coin. */
+    public static final int COMPONENTS = Entities.TRANSFORM | Entities.HITBOX | Entities.VELOCITY
+            | Entities.SPRITE | Entities.LANE | Entities.PICKUP;
+
+    /**
+     * Creates a coin to use as a prefab. It is placed by reset() before it is used.
+     */
+    Coin() {
+        super(0, 0, 0, 0, Sprite.COIN);
+    }
+
+    /**
+     * Places this prefab as a new coin above a lane.
+     *
+     * @param config - The world configuration providing screen, lane and sprite sizes
+     * @param random - The random source used to vary the starting position
+     * @param lane - The lane to place the coin in
+     */
+    public void reset(WorldConfig config, Random random, int lane) {
+        this.width = config.getSpriteWidth(Sprite.COIN);
+        this.height = config.getSpriteHeight(Sprite.COIN);
+        this.isAlive = true;
+        float laneWidth = config.getLaneWidth();
+
+        // Use the provided lane instead of a random one
+        this.posX = lane * laneWidth + (laneWidth - width) / 2;
+
+        // Slightly randomize position within lane
+        this.posX += (random.nextFloat() * 10) - 5; // Shift by -5 to +5 pixels
+
+        // Start above screen with some random variation
+        this.posY = -height - (random.nextFloat() * 50);
+
+        // Fixed speed; a new coin starts one step into its fall
+        this.speed = 5;
+        this.posY += speed;
+
+        update();
+        savePreviousPosition();
+    }
+}
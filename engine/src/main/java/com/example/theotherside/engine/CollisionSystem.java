@@ -0,0 +1,65 @@
+/*
+ * This file contains the CollisionSystem class which tests entities with a
+ * hitbox against the chicken. What a contact means is decided by the entity's
+ * tags, so new obstacle or pickup kinds need no new collision code.
+ *
+ * The class manages:
+ * - Detecting contact with obstacles
+ * - Collecting (destroying and counting) touched pickups
+ * - Keeping the lane index's pickup positions up to date
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Hitbox overlap tests between entities and a single target box.
+ */
+public class CollisionSystem {
+    private static final int OBSTACLES = Entities.HITBOX | Entities.OBSTACLE;
+    private static final int PICKUPS = Entities.HITBOX | Entities.PICKUP;
+
+    /**
+     * Checks if any obstacle overlaps the target.
+     *
+     * @param entities - The entities to test
+     * @param target - The hitbox to test against, usually the chicken's
+     * @return true if at least one obstacle overlaps the target
+     */
+    public boolean hitsObstacle(Entities entities, HitBox target) {
+        int[] mask = entities.mask;
+        for (int row = 0; row < entities.count; row++) {
+            if ((mask[row] & OBSTACLES) == OBSTACLES && entities.intersects(row, target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Destroys every pickup that overlaps the target and refills the lane
+     * index's pickup positions from the pickups that remain.
+     *
+     * @param entities - The entities to test
+     * @param lanes - The lane index to update
+     * @param target - The hitbox to test against, usually the chicken's
+     * @return The number of pickups collected
+     */
+    public int collectPickups(Entities entities, LaneIndex lanes, HitBox target) {
+        int[] mask = entities.mask;
+        int collected = 0;
+        lanes.clearPickups();
+        for (int row = entities.count - 1; row >= 0; row--) {
+            if ((mask[row] & PICKUPS) != PICKUPS) {
+                continue;
+            }
+            if (entities.intersects(row, target)) {
+                entities.removeRow(row);
+                collected++;
+            } else {
+                lanes.add(entities, row);
+            }
+        }
+        return collected;
+    }
+}
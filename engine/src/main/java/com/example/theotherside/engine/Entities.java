@@ -0,0 +1,378 @@
+/*
+ * This file contains the Entities class, the registry at the core of the
+ * engine's entity-component-system. An entity is just an id; what it is and
+ * how it behaves comes from the components it has, which are stored in
+ * parallel primitive arrays so each system only touches the arrays it needs.
+ *
+ * The class manages:
+ * - Creating and destroying entities and recycling their ids
+ * - Generations in ids, so a stale id never reaches a recycled entity
+ * - Component masks and tags (obstacle, pickup, moves with the world)
+ * - Transform, hitbox size, velocity, sprite and lane component arrays
+ * - Swap-remove deletion that keeps live entities packed
+ * - Hitbox tests with the same integer rounding as HitBox
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Entity registry with struct-of-arrays component storage. Live entities fill
+ * rows 0 to size() - 1 of every array, so systems loop over rows and check the
+ * component mask; an entity's id stays the same while its row may change when
+ * another entity is destroyed. Loops that destroy entities while iterating should
+ * walk the rows from the end towards the start. The arrays are package-private so
+ * the systems can read and write them directly.
+ *
+ * An id is a slot in the id tables plus the generation of that slot. Destroying
+ * an entity frees its slot for a later create() and bumps the generation, so the
+ * old id stops matching: it reads as dead and using it to change an entity fails
+ * with an IllegalArgumentException instead of hitting whoever got the slot.
+ */
+public class Entities {
+    // Components
+    public static final int TRANSFORM = 1;
+    public static final int HITBOX = 1 << 1;
+    public static final int VELOCITY = 1 << 2;
+    public static final int SPRITE = 1 << 3;
+    public static final int LANE = 1 << 4;
+
+    // Tags
+    public static final int SCROLLS = 1 << 8;  // falls at the world's speed
+    public static final int OBSTACLE = 1 << 9; // ends the game on contact
+    public static final int PICKUP = 1 << 10;  // collected on contact
+
+    private static final Sprite[] SPRITES = Sprite.values();
+    private static final int NO_ROW = -1;
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1; // ids stay positive
+
+    // Indexed by row
+    int[] mask;
+    int[] entity;
+    float[] posX, posY;
+    float[] prevX, prevY;
+    float[] width, height;
+    float[] velocityY;
+    byte[] sprite; // Sprite ordinal
+    int[] lane;
+    int count;
+
+    // Indexed by id slot
+    private int[] rowOf;
+    private int[] generation;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int nextSlot;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param capacity - The number of entities that fit before the arrays grow
+     */
+    public Entities(int capacity) {
+        capacity = Math.max(capacity, 1);
+        allocateRows(capacity);
+        rowOf = new int[capacity];
+        generation = new int[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    /**
+     * Creates an entity with the given components and tags. Component values
+     * start at zero until they are set.
+     *
+     * @param components - The component and tag bits of the new entity
+     * @return The id of the new entity
+     */
+    public int create(int components) {
+        if (count == mask.length) {
+            growRows();
+        }
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (nextSlot == rowOf.length) {
+                if (nextSlot > SLOT_MASK) {
+                    throw new IllegalStateException("too many entities: " + nextSlot);
+                }
+                rowOf = copyOf(rowOf, rowOf.length * 2);
+                generation = copyOf(generation, generation.length * 2);
+                freeSlots = copyOf(freeSlots, freeSlots.length * 2);
+            }
+            slot = nextSlot++;
+        }
+
+        int id = (generation[slot] << SLOT_BITS) | slot;
+        int row = count++;
+        rowOf[slot] = row;
+        entity[row] = id;
+        mask[row] = components;
+        posX[row] = posY[row] = prevX[row] = prevY[row] = 0f;
+        width[row] = height[row] = velocityY[row] = 0f;
+        sprite[row] = 0;
+        lane[row] = 0;
+        return id;
+    }
+
+    /**
+     * Creates an entity from a placed game object, copying its position, size,
+     * speed and sprite. The object is only read, so one object can be placed and
+     * copied for every spawn.
+     *
+     * @param prefab - The game object to copy
+     * @param components - The component and tag bits of the new entity
+     * @return The id of the new entity
+     */
+    public int spawn(GameObject prefab, int components) {
+        int id = create(components);
+        int row = count - 1;
+        posX[row] = prefab.posX;
+        posY[row] = prefab.posY;
+        prevX[row] = prefab.prevX;
+        prevY[row] = prefab.prevY;
+        width[row] = prefab.width;
+        height[row] = prefab.height;
+        velocityY[row] = prefab.speed;
+        sprite[row] = (byte) prefab.sprite.ordinal();
+        return id;
+    }
+
+    /**
+     * Destroys an entity. Its slot may be reused by a later create(), under a new id.
+     *
+     * @param id - The id of a live entity
+     * @throws IllegalArgumentException if the entity was already destroyed
+     */
+    public void destroy(int id) {
+        removeRow(liveRowOf(id));
+    }
+
+    /**
+     * Destroys the entity in a row by moving the last row into its place.
+     *
+     * @param row - The row of the entity to destroy
+     */
+    void removeRow(int row) {
+        int slot = entity[row] & SLOT_MASK;
+        int last = --count;
+        if (row != last) {
+            mask[row] = mask[last];
+            entity[row] = entity[last];
+            posX[row] = posX[last];
+            posY[row] = posY[last];
+            prevX[row] = prevX[last];
+            prevY[row] = prevY[last];
+            width[row] = width[last];
+            height[row] = height[last];
+            velocityY[row] = velocityY[last];
+            sprite[row] = sprite[last];
+            lane[row] = lane[last];
+            rowOf[entity[row] & SLOT_MASK] = row;
+        }
+        free(slot);
+    }
+
+    /**
+     * Destroys every entity. The arrays keep their capacity, and the ids of the
+     * destroyed entities stay dead.
+     */
+    public void clear() {
+        for (int row = count - 1; row >= 0; row--) {
+            free(entity[row] & SLOT_MASK);
+        }
+        count = 0;
+    }
+
+    /**
+     * Remembers the current position of every entity for interpolated rendering.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(posX, 0, prevX, 0, count);
+        System.arraycopy(posY, 0, prevY, 0, count);
+    }
+
+    /**
+     * Checks if the entity in a row overlaps a hitbox. The edges are truncated to
+     * integers the same way GameObject.update() fills its HitBox, so results
+     * match GameObject.isColliding().
+     *
+     * @param row - The row of the entity
+     * @param box - The hitbox to test against
+     * @return true if the entity overlaps the hitbox
+     */
+    public boolean intersects(int row, HitBox box) {
+        int left = (int) posX[row];
+        int top = (int) posY[row];
+        int right = (int) (posX[row] + width[row]);
+        int bottom = (int) (posY[row] + height[row]);
+        return left < box.right && box.left < right && top < box.bottom && box.top < bottom;
+    }
+
+    /**
+     * Counts the entities that have all of the given components and tags.
+     *
+     * @param components - The component and tag bits to match
+     * @return The number of matching entities
+     */
+    public int count(int components) {
+        int matches = 0;
+        for (int row = 0; row < count; row++) {
+            if ((mask[row] & components) == components) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Sets the lane of an entity.
+     *
+     * @param id - The id of a live entity
+     * @param lane - The lane index
+     * @throws IllegalArgumentException if the entity was destroyed
+     */
+    public void setLane(int id, int lane) {
+        this.lane[liveRowOf(id)] = lane;
+    }
+
+    /**
+     * Returns the row an entity is stored in. Rows change when other entities
+     * are destroyed, so look them up again after a tick.
+     *
+     * @param id - The entity id
+     * @return The row, or -1 if the entity was destroyed
+     */
+    public int rowOf(int id) {
+        int slot = id & SLOT_MASK;
+        if (id < 0 || slot >= nextSlot || generation[slot] != id >>> SLOT_BITS) {
+            return NO_ROW;
+        }
+        return rowOf[slot];
+    }
+
+    public boolean isAlive(int id) {
+        return rowOf(id) != NO_ROW;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getCapacity() {
+        return mask.length;
+    }
+
+    public boolean has(int row, int components) {
+        return (mask[row] & components) == components;
+    }
+
+    public int getEntity(int row) {
+        return entity[row];
+    }
+
+    public float getPosX(int row) {
+        return posX[row];
+    }
+
+    public float getPosY(int row) {
+        return posY[row];
+    }
+
+    public float getPrevX(int row) {
+        return prevX[row];
+    }
+
+    public float getPrevY(int row) {
+        return prevY[row];
+    }
+
+    public float getWidth(int row) {
+        return width[row];
+    }
+
+    public float getHeight(int row) {
+        return height[row];
+    }
+
+    public float getVelocityY(int row) {
+        return velocityY[row];
+    }
+
+    public Sprite getSprite(int row) {
+        return SPRITES[sprite[row]];
+    }
+
+    public int getLane(int row) {
+        return lane[row];
+    }
+
+    /**
+     * Returns the row of an entity that must be alive.
+     */
+    private int liveRowOf(int id) {
+        int row = rowOf(id);
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException("entity " + id + " is not alive");
+        }
+        return row;
+    }
+
+    /**
+     * Marks an id slot as free and bumps its generation, so ids handed out for
+     * it so far read as dead.
+     */
+    private void free(int slot) {
+        rowOf[slot] = NO_ROW;
+        generation[slot] = (generation[slot] + 1) & GENERATION_MASK;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Doubles the row capacity, keeping the live entities.
+     */
+    private void growRows() {
+        int[] oldMask = mask, oldEntity = entity, oldLane = lane;
+        float[] oldX = posX, oldY = posY, oldPrevX = prevX, oldPrevY = prevY;
+        float[] oldWidth = width, oldHeight = height, oldVelocityY = velocityY;
+        byte[] oldSprite = sprite;
+        allocateRows(mask.length * 2);
+        System.arraycopy(oldMask, 0, mask, 0, count);
+        System.arraycopy(oldEntity, 0, entity, 0, count);
+        System.arraycopy(oldX, 0, posX, 0, count);
+        System.arraycopy(oldY, 0, posY, 0, count);
+        System.arraycopy(oldPrevX, 0, prevX, 0, count);
+        System.arraycopy(oldPrevY, 0, prevY, 0, count);
+        System.arraycopy(oldWidth, 0, width, 0, count);
+        System.arraycopy(oldHeight, 0, height, 0, count);
+        System.arraycopy(oldVelocityY, 0, velocityY, 0, count);
+        System.arraycopy(oldSprite, 0, sprite, 0, count);
+        System.arraycopy(oldLane, 0, lane, 0, count);
+    }
+
+    private void allocateRows(int capacity) {
+        mask = new int[capacity];
+        entity = new int[capacity];
+        posX = new float[capacity];
+        posY = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        velocityY = new float[capacity];
+        sprite = new byte[capacity];
+        lane = new int[capacity];
+    }
+
+    private static int[] copyOf(int[] array, int capacity) {
+        int[] copy = new int[capacity];
+        System.arraycopy(array, 0, copy, 0, array.length);
+        return copy;
+    }
+}
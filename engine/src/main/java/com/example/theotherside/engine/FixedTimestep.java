@@ -0,0 +1,94 @@
+/*
+ * This file contains the FixedTimestep class which turns variable frame times
+ * into a whole number of fixed-length simulation ticks. Time left over after
+ * the last whole tick is kept in an accumulator and exposed as an interpolation
+ * factor so rendering can blend between the previous and the current tick.
+ *
+ * The class manages:
+ * - The accumulator of unsimulated time
+ * - The number of ticks to run for each frame
+ * - Clamping of long frames to avoid a spiral of death
+ * - The interpolation factor for rendering
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Accumulator-based fixed timestep. Each frame adds the elapsed time and gets
+ * back how many ticks of simulation to run, so gameplay speed no longer depends
+ * on the display's frame rate.
+ */
+public class FixedTimestep {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int MAX_TICKS_PER_FRAME = 8;
+
+    private final int tickRate;
+    private final long tickNanos;
+    private long accumulatorNanos;
+
+    /**
+     * Creates a new fixed timestep running at the given tick rate.
+     *
+     * @param tickRate - The number of simulation ticks per second
+     */
+    public FixedTimestep(int tickRate) {
+        this.tickRate = tickRate;
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+    }
+
+    /**
+     * Adds elapsed time to the accumulator and returns the number of ticks to simulate.
+     * If more than MAX_TICKS_PER_FRAME ticks are owed (after a long stall) the
+     * surplus is dropped so the simulation can't fall further and further behind.
+     *
+     * @param elapsedNanos - The time that passed since the previous call
+     * @return The number of whole ticks to run now
+     */
+    public int advance(long elapsedNanos) {
+        if (elapsedNanos > 0) {
+            accumulatorNanos += elapsedNanos;
+        }
+
+        int ticks = (int) Math.min(accumulatorNanos / tickNanos, MAX_TICKS_PER_FRAME);
+        accumulatorNanos -= ticks * tickNanos;
+        if (accumulatorNanos >= tickNanos) {
+            accumulatorNanos = tickNanos - 1;
+        }
+        return ticks;
+    }
+
+    /**
+     * Returns how far the accumulated time is between the last tick and the next one.
+     *
+     * @return The interpolation factor in the range [0, 1)
+     */
+    public float getAlpha() {
+        return (float) accumulatorNanos / tickNanos;
+    }
+
+    /**
+     * Discards any accumulated time, e.g. after a pause.
+     */
+    public void reset() {
+        accumulatorNanos = 0;
+    }
+
+    /**
+     * Returns the number of ticks per second.
+     *
+     * @return The tick rate in Hz
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Returns the length of one tick.
+     *
+     * @return The tick length in nanoseconds
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
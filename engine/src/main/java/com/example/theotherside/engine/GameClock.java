@@ -0,0 +1,117 @@
+/*
+ * This file contains the GameClock class which is the single source of game time.
+ * Game time is monotonic, stops while the clock is paused and can run faster or
+ * slower than real time through a time-scale factor.
+ *
+ * The class manages:
+ * - Conversion from a raw monotonic time source to game time
+ * - Pausing and resuming of game time
+ * - The time-scale factor
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Base class for game clocks. Subclasses only provide the raw monotonic time
+ * source; pausing and time scaling are handled here so every implementation
+ * behaves the same way.
+ */
+public abstract class GameClock {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private long baseGameNanos;
+    private long baseSourceNanos;
+    private float timeScale = 1f;
+    private boolean isPaused;
+
+    /**
+     * Returns the current value of the underlying monotonic time source.
+     *
+     * @return The raw source time in nanoseconds
+     */
+    protected abstract long sourceNanos();
+
+    /**
+     * Returns the current game time. Game time starts at zero, does not advance
+     * while paused and advances at timeScale times the source rate otherwise.
+     *
+     * @return The game time in nanoseconds
+     */
+    public synchronized long nanoTime() {
+        if (isPaused) {
+            return baseGameNanos;
+        }
+        return baseGameNanos + (long) ((sourceNanos() - baseSourceNanos) * (double) timeScale);
+    }
+
+    /**
+     * Returns the current game time in milliseconds.
+     *
+     * @return The game time in milliseconds
+     */
+    public long uptimeMillis() {
+        return nanoTime() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Stops game time. Does nothing if the clock is already paused.
+     */
+    public synchronized void pause() {
+        if (!isPaused) {
+            baseGameNanos = nanoTime();
+            isPaused = true;
+        }
+    }
+
+    /**
+     * Restarts game time from where it was paused. Does nothing if the clock is running.
+     */
+    public synchronized void resume() {
+        if (isPaused) {
+            baseSourceNanos = sourceNanos();
+            isPaused = false;
+        }
+    }
+
+    /**
+     * Returns whether game time is currently stopped.
+     *
+     * @return true if the clock is paused, false otherwise
+     */
+    public synchronized boolean isPaused() {
+        return isPaused;
+    }
+
+    /**
+     * Sets how fast game time runs relative to the time source.
+     *
+     * @param timeScale - The time-scale factor (1 is real time, 2 is double speed)
+     */
+    public synchronized void setTimeScale(float timeScale) {
+        if (timeScale < 0f) {
+            throw new IllegalArgumentException("time scale must not be negative");
+        }
+        // Rebase so the new scale only applies from now on
+        baseGameNanos = nanoTime();
+        baseSourceNanos = sourceNanos();
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Returns the current time-scale factor.
+     *
+     * @return The time-scale factor
+     */
+    public synchronized float getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Restarts game time at zero, keeping the paused state and time scale.
+     */
+    public synchronized void reset() {
+        baseGameNanos = 0;
+        baseSourceNanos = sourceNanos();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file contains the base GameObject class that serves as a foundation for all
+ * game objects in the engine. It provides basic functionality for position,
+ * movement and collision detection of game objects. It has no Android
+ * dependencies; the app draws each object using its sprite id.
+ *
+ * The class handles:
+ * - Position and size management
+ * - Collision detection using hitboxes
+ * - The sprite the object is drawn with
+ * - Previous-tick position for interpolated rendering
+ * - Object state management (alive/dead)
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Base class for all game objects in the engine.
+ * Provides fundamental functionality for position, movement and collision detection
+ * of game objects.
+ */
+public class GameObject {
+    protected float posX, posY;
+    protected float prevX, prevY;
+    protected float width, height;
+    protected float speed;
+    protected Sprite sprite;
+    protected boolean isAlive = true;
+    protected HitBox hitBox;
+
+    /**
+     * Creates a new game object with the specified position, size and sprite.
+     *
+     * @param posX - The initial X coordinate of the game object
+     * @param posY - The initial Y coordinate of the game object
+     * @param width - The width of the game object
+     * @param height - The height of the game object
+     * @param sprite - The sprite used to draw the game object
+     */
+    public GameObject(float posX, float posY, float width, float height, Sprite sprite) {
+        this.posX = posX;
+        this.posY = posY;
+        this.width = width;
+        this.height = height;
+        this.sprite = sprite;
+        this.prevX = posX;
+        this.prevY = posY;
+        this.hitBox = new HitBox((int)posX, (int)posY,
+                (int)(posX + width), (int)(posY + height));
+    }
+
+    /**
+     * Updates the game object's state.
+     * Currently updates the position of the hitbox to match the object's position.
+     * This method should be called every tick to maintain accurate collision detection.
+     */
+    public void update() {
+        hitBox.left = (int)posX;
+        hitBox.top = (int)posY;
+        hitBox.right = (int)(posX + width);
+        hitBox.bottom = (int)(posY + height);
+    }
+
+    /**
+     * Remembers the current position as the starting point of the next simulation tick.
+     * Must be called before each tick so rendering can interpolate between ticks.
+     */
+    public void savePreviousPosition() {
+        prevX = posX;
+        prevY = posY;
+    }
+
+    /**
+     * Checks if this game object is colliding with another game object.
+     * Uses rectangular hitbox intersection for collision detection.
+     *
+     * @param other - The other game object to check for collision with
+     * @return true if the objects are colliding, false otherwise
+     */
+    public boolean isColliding(GameObject other) {
+        return HitBox.intersects(hitBox, other.hitBox);
+    }
+
+    public float getPosX() {
+        return posX;
+    }
+
+    public float getPosY() {
+        return posY;
+    }
+
+    public float getPrevX() {
+        return prevX;
+    }
+
+    public float getPrevY() {
+        return prevY;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public Sprite getSprite() {
+        return sprite;
+    }
+
+    public boolean isAlive() {
+        return isAlive;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * This file contains the GameWorld class which holds the complete game rules:
+ * spawning carts and coins, moving them, detecting collisions with the chicken,
+ * scoring and speed progression. It has no Android dependencies, so whole games
+ * can be simulated on a plain JVM for tests, benchmarks and tuning.
+ *
+ * The class manages:
+ * - The chicken and the entities (carts, coins) it has to dodge or collect
+ * - Running the spawn, movement and collision systems each tick
+ * - The lane index the spawn system reads lanes from
+ * - Turning collisions into a crash or collected coins
+ * - Distance, score, coins collected and speed progression
+ * - Notifying a listener of crashes, collected coins and speed-ups
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Random;
+
+/**
+ * The simulated game. Call tick() once per fixed simulation tick while the game is
+ * running; all timing is read from the GameClock passed in, so a VirtualGameClock
+ * advanced by one tick per call runs a game as fast as the CPU allows.
+ * Carts and coins are entities in an entity-component-system; the world owns
+ * the systems that update them. The phases of a tick are package-private so the
+ * benchmarks can measure them one at a time.
+ */
+public class GameWorld {
+    /**
+     * Receives game events that the app turns into sounds, HUD updates and saved data.
+     */
+    public interface Listener {
+        /**
+         * Called once when a cart hits the chicken and the game ends.
+         *
+         * @param finalScore - The score of the finished game
+         * @param coinsCollected - The number of coins collected in the game
+         */
+        void onCrash(int finalScore, int coinsCollected);
+
+        /**
+         * Called when the chicken collects a coin.
+         *
+         * @param coinsCollected - The number of coins collected so far
+         */
+        void onCoinCollected(int coinsCollected);
+
+        /**
+         * Called each time the speed multiplier passes another whole number.
+         */
+        void onSpeedUp();
+    }
+
+    public static final int REFERENCE_TICK_RATE = 60; // speeds are tuned per 60 Hz tick
+    private static final float BASE_SPEED = 0.2f;
+    private static final float SPEED_INCREASE_PER_MINUTE = 0.5f;
+    private static final float MAX_SPEED = 30f;
+    // More than can be on screen at once, even at the fastest spawn rate
+    private static final int ENTITY_CAPACITY = 48;
+
+    private final WorldConfig config;
+    private final GameClock clock;
+    private Listener listener;
+    private float tickScale = 1f;
+
+    // Created once and reset in place for every new game
+    private final Chicken chicken;
+    private final Entities entities = new Entities(ENTITY_CAPACITY);
+    private final LaneIndex lanes;
+    private final SpawnSystem spawner;
+    private final MovementSystem movement;
+    private final CollisionSystem collisions = new CollisionSystem();
+
+    private boolean isGameOver;
+    private long gameStartTime;
+    private float distanceTraveled;
+    private int score;
+    private int coinsCollected;
+    private float baseSpeed = 5f;
+    private float speedMultiplier = 1.0f;
+    private int lastSpeedFloor = 1;
+
+    /**
+     * Creates a new game world and starts the first game.
+     *
+     * @param config - The screen, lane and sprite dimensions
+     * @param clock - The clock used for spawning and speed progression
+     * @param random - The random source for lanes, cart types and position jitter
+     */
+    public GameWorld(WorldConfig config, GameClock clock, Random random) {
+        this.config = config;
+        this.clock = clock;
+        this.chicken = new Chicken(config);
+        this.lanes = new LaneIndex(config.getLaneCount(), config.getScreenHeight());
+        this.spawner = new SpawnSystem(config, random);
+        this.movement = new MovementSystem(config.getScreenHeight());
+        reset();
+    }
+
+    /**
+     * Sets the listener that is notified of game events.
+     *
+     * @param listener - The listener, or null for none
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the number of ticks per second. Movement is scaled per tick so
+     * gameplay speed is the same at every tick rate.
+     *
+     * @param tickRate - The simulation tick rate in Hz
+     */
+    public void setTickRate(int tickRate) {
+        tickScale = (float) REFERENCE_TICK_RATE / tickRate;
+    }
+
+    /**
+     * Resets the game state to initial values for a warm restart.
+     * Reuses the chicken and destroys all entities, whose arrays keep their
+     * capacity, and resets score and timers, so a restart allocates nothing.
+     */
+    public void reset() {
+        chicken.reset();
+        entities.clear();
+        lanes.clear();
+        score = 0;
+        coinsCollected = 0;
+        isGameOver = false;
+        spawner.reset(clock.uptimeMillis());
+
+        gameStartTime = clock.uptimeMillis();
+        distanceTraveled = 0f;
+        speedMultiplier = 1.0f;
+        lastSpeedFloor = 1;
+    }
+
+    /**
+     * Stores the current position of every game object before a simulation tick
+     * so the renderer can interpolate between ticks.
+     */
+    public void savePreviousPositions() {
+        chicken.savePreviousPosition();
+        entities.savePreviousPositions();
+    }
+
+    /**
+     * Advances the game state by one fixed simulation tick, including speed
+     * progression, object spawning, object positions and collision detection.
+     */
+    public void tick() {
+        if (isGameOver) {
+            return;
+        }
+
+        long currentTime = clock.uptimeMillis();
+        updateSpeed(currentTime);
+        spawnCarts(currentTime);
+        spawnCoins(currentTime);
+        moveEntities();
+        checkCollisions();
+    }
+
+    /**
+     * Updates the speed multiplier and the distance traveled from the time played.
+     *
+     * @param currentTime - The current game time in milliseconds
+     */
+    void updateSpeed(long currentTime) {
+        // Make speed increase more gradual - change 3000 to 10000 or higher
+        // for slower progression
+        float elapsedTime = (currentTime - gameStartTime) / 8000.0f;
+
+        // Reduce this constant for smoother progression
+        speedMultiplier = 1.0f + (SPEED_INCREASE_PER_MINUTE * 0.2f * elapsedTime);
+
+        // maximum speed
+        if (baseSpeed * speedMultiplier > MAX_SPEED) {
+            speedMultiplier = MAX_SPEED / baseSpeed;
+        }
+
+        // notify when speed increases by 1.0
+        int currentFloor = (int) speedMultiplier;
+        if (currentFloor > lastSpeedFloor) {
+            lastSpeedFloor = currentFloor;
+            if (listener != null) {
+                listener.onSpeedUp();
+            }
+        }
+
+        distanceTraveled = ((currentTime - gameStartTime) * BASE_SPEED);
+        score = Math.round(distanceTraveled / 100);
+    }
+
+    /**
+     * Runs the spawn system for carts.
+     *
+     * @param currentTime - The current game time in milliseconds
+     */
+    void spawnCarts(long currentTime) {
+        spawner.spawnCarts(entities, lanes, currentTime, chicken.getLane(), score);
+    }
+
+    /**
+     * Runs the spawn system for coins.
+     *
+     * @param currentTime - The current game time in milliseconds
+     */
+    void spawnCoins(long currentTime) {
+        spawner.spawnCoins(entities, lanes, currentTime);
+    }
+
+    /**
+     * Moves every entity for one tick, carts at the current game speed, and
+     * drops the ones that left the screen.
+     */
+    void moveEntities() {
+        movement.update(entities, lanes, baseSpeed * speedMultiplier, tickScale);
+    }
+
+    /**
+     * Ends the game if a cart hits the chicken and collects the coins it touches.
+     */
+    void checkCollisions() {
+        HitBox chickenBox = chicken.hitBox;
+        if (!isGameOver && collisions.hitsObstacle(entities, chickenBox)) {
+            isGameOver = true;
+            if (listener != null) {
+                listener.onCrash(score, coinsCollected);
+            }
+        }
+
+        int collected = collisions.collectPickups(entities, lanes, chickenBox);
+        for (int i = 0; i < collected; i++) {
+            coinsCollected++;
+            if (listener != null) {
+                listener.onCoinCollected(coinsCollected);
+            }
+        }
+    }
+
+    /**
+     * Determines the lane index based on the x position and width of an object.
+     *
+     * @param posX - The x position of the object
+     * @param width - The width of the object
+     * @return The lane index where the object is located
+     */
+    public int getLaneFromX(float posX, float width) {
+        float objectCenterX = posX + width / 2;
+        return (int)(objectCenterX / config.getLaneWidth());
+    }
+
+    /**
+     * Moves the chicken one lane to the left unless the game is over.
+     */
+    public void moveChickenLeft() {
+        if (!isGameOver) {
+            chicken.moveLeft();
+        }
+    }
+
+    /**
+     * Moves the chicken one lane to the right unless the game is over.
+     */
+    public void moveChickenRight() {
+        if (!isGameOver) {
+            chicken.moveRight();
+        }
+    }
+
+    public WorldConfig getConfig() {
+        return config;
+    }
+
+    public Chicken getChicken() {
+        return chicken;
+    }
+
+    public Entities getEntities() {
+        return entities;
+    }
+
+    public LaneIndex getLanes() {
+        return lanes;
+    }
+
+    public boolean isGameOver() {
+        return isGameOver;
+    }
+
+    public float getDistanceTraveled() {
+        return distanceTraveled;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCoinsCollected() {
+        return coinsCollected;
+    }
+
+    public float getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file contains the HeadlessRunner class which plays complete games of
+ * GameWorld without a screen. Time comes from a VirtualGameClock that is advanced
+ * one tick at a time, so a game runs as fast as the CPU allows.
+ *
+ * The class manages:
+ * - A virtual clock and fixed tick rate for each game
+ * - Steering the chicken through a pluggable Pilot
+ * - Stopping a game on a crash or after a time limit
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Random;
+
+/**
+ * Runs games of GameWorld on a plain JVM for testing and tuning.
+ */
+public class HeadlessRunner {
+    /**
+     * Steers the chicken in a headless game.
+     */
+    public interface Pilot {
+        /**
+         * Called before every tick; may move the chicken.
+         *
+         * @param world - The world being played
+         */
+        void steer(GameWorld world);
+    }
+
+    /**
+     * A pilot that never moves the chicken.
+     */
+    public static final Pilot IDLE = world -> { };
+
+    /**
+     * A pilot that moves the chicken out of a lane with a cart approaching it,
+     * towards the adjacent lane with the most room.
+     */
+    public static final Pilot DODGE = world -> {
+        Chicken chicken = world.getChicken();
+        int lane = chicken.getLane();
+        if (clearance(world, lane) > chicken.height * 3) {
+            return;
+        }
+        int lastLane = world.getConfig().getLaneCount() - 1;
+        float left = lane > 0 ? clearance(world, lane - 1) : -1;
+        float right = lane < lastLane ? clearance(world, lane + 1) : -1;
+        if (left > right) {
+            world.moveChickenLeft();
+        } else if (right >= 0) {
+            world.moveChickenRight();
+        }
+    };
+
+    private final WorldConfig config;
+    private final int tickRate;
+
+    /**
+     * Creates a runner that plays games in the given world configuration.
+     *
+     * @param config - The screen, lane and sprite dimensions
+     * @param tickRate - The simulation tick rate in Hz
+     */
+    public HeadlessRunner(WorldConfig config, int tickRate) {
+        this.config = config;
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Plays one game until the chicken crashes or the time limit is reached.
+     *
+     * @param seed - The seed for the world's random source
+     * @param pilot - The pilot that steers the chicken
+     * @param maxMillis - The longest game time to simulate
+     * @return The world at the end of the game
+     */
+    public GameWorld play(long seed, Pilot pilot, long maxMillis) {
+        VirtualGameClock clock = new VirtualGameClock();
+        FixedTimestep timestep = new FixedTimestep(tickRate);
+        GameWorld world = new GameWorld(config, clock, new Random(seed));
+        world.setTickRate(tickRate);
+
+        long maxNanos = maxMillis * 1_000_000L;
+        while (!world.isGameOver() && clock.nanoTime() < maxNanos) {
+            pilot.steer(world);
+            clock.advance(timestep.getTickNanos());
+            world.savePreviousPositions();
+            world.tick();
+        }
+        return world;
+    }
+
+    /**
+     * Returns the free space between the chicken and the closest cart coming
+     * towards it in a lane.
+     *
+     * @param world - The world to search
+     * @param lane - The lane index
+     * @return The distance in pixels, or Float.MAX_VALUE if the lane is clear
+     */
+    private static float clearance(GameWorld world, int lane) {
+        Chicken chicken = world.getChicken();
+        float result = Float.MAX_VALUE;
+        Entities entities = world.getEntities();
+        for (int row = 0; row < entities.size(); row++) {
+            if (!entities.has(row, Entities.OBSTACLE | Entities.LANE)) {
+                continue;
+            }
+            float cartY = entities.getPosY(row);
+            float distance = chicken.posY - (cartY + entities.getHeight(row));
+            if (cartY < chicken.posY + chicken.height && entities.getLane(row) == lane) {
+                result = Math.min(result, Math.max(distance, 0f));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file contains the HitBox class which is the engine's integer rectangle
+ * used for collision detection. It follows the same conventions as
+ * android.graphics.Rect so collision results match the original game exactly.
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Axis-aligned integer rectangle. Right and bottom are exclusive, as in android.graphics.Rect.
+ */
+public class HitBox {
+    public int left, top, right, bottom;
+
+    /**
+     * Creates a new hitbox with the given edges.
+     *
+     * @param left - The left edge
+     * @param top - The top edge
+     * @param right - The right edge
+     * @param bottom - The bottom edge
+     */
+    public HitBox(int left, int top, int right, int bottom) {
+        set(left, top, right, bottom);
+    }
+
+    /**
+     * Moves the hitbox to the given edges.
+     *
+     * @param left - The left edge
+     * @param top - The top edge
+     * @param right - The right edge
+     * @param bottom - The bottom edge
+     */
+    public void set(int left, int top, int right, int bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    /**
+     * Checks if two hitboxes overlap. Boxes that only touch at an edge do not overlap.
+     *
+     * @param a - The first hitbox
+     * @param b - The second hitbox
+     * @return true if the hitboxes overlap, false otherwise
+     */
+    public static boolean intersects(HitBox a, HitBox b) {
+        return a.left < b.right && b.left < a.right && a.top < b.bottom && b.top < a.bottom;
+    }
+}
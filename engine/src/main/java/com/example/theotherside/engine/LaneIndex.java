@@ -0,0 +1,217 @@
+/*
+ * This file contains the LaneIndex class which keeps, for every lane, how far
+ * down the screen the topmost cart and coin are, so spawn decisions never have
+ * to scan the entities. The spawn system folds in each new entity, and the
+ * movement and collision systems refresh the lanes during the passes they
+ * already make over every entity.
+ *
+ * The class manages:
+ * - The topmost obstacle and pickup position per lane
+ * - Dangerous, escape, clear and coin-free lanes as bitmasks
+ * - Picking the n-th lane of a bitmask
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Per-lane occupancy summary. Lane sets are int bitmasks with bit i set for
+ * lane i, so at most 32 lanes are supported. Empty lanes report a topmost
+ * position of Float.POSITIVE_INFINITY.
+ */
+public class LaneIndex {
+    public static final int MAX_LANES = Integer.SIZE;
+
+    private final int laneCount;
+    private final float screenHeight;
+    private final float[] obstacleTop;
+    private final float[] pickupTop;
+
+    /**
+     * Creates an index with every lane empty.
+     *
+     * @param laneCount - The number of lanes, at most MAX_LANES
+     * @param screenHeight - The height of the game screen
+     */
+    public LaneIndex(int laneCount, float screenHeight) {
+        if (laneCount > MAX_LANES) {
+            throw new IllegalArgumentException("at most " + MAX_LANES + " lanes are supported");
+        }
+        this.laneCount = laneCount;
+        this.screenHeight = screenHeight;
+        this.obstacleTop = new float[laneCount];
+        this.pickupTop = new float[laneCount];
+        clear();
+    }
+
+    /**
+     * Marks every lane as empty.
+     */
+    public void clear() {
+        clearObstacles();
+        clearPickups();
+    }
+
+    void clearObstacles() {
+        for (int i = 0; i < laneCount; i++) {
+            obstacleTop[i] = Float.POSITIVE_INFINITY;
+        }
+    }
+
+    void clearPickups() {
+        for (int i = 0; i < laneCount; i++) {
+            pickupTop[i] = Float.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Records an obstacle in a lane.
+     *
+     * @param lane - The lane of the obstacle
+     * @param posY - The top edge of the obstacle
+     */
+    void addObstacle(int lane, float posY) {
+        if (posY < obstacleTop[lane]) {
+            obstacleTop[lane] = posY;
+        }
+    }
+
+    /**
+     * Records a pickup in a lane.
+     *
+     * @param lane - The lane of the pickup
+     * @param posY - The top edge of the pickup
+     */
+    void addPickup(int lane, float posY) {
+        if (posY < pickupTop[lane]) {
+            pickupTop[lane] = posY;
+        }
+    }
+
+    /**
+     * Recomputes every lane from the entities, for when entities were added or
+     * removed without going through the systems.
+     *
+     * @param entities - The entities to index
+     */
+    public void rebuild(Entities entities) {
+        clear();
+        for (int row = 0; row < entities.count; row++) {
+            add(entities, row);
+        }
+    }
+
+    /**
+     * Records the entity in a row if it has a lane.
+     */
+    void add(Entities entities, int row) {
+        int components = entities.mask[row];
+        if ((components & Entities.LANE) == 0) {
+            return;
+        }
+        if ((components & Entities.OBSTACLE) != 0) {
+            addObstacle(entities.lane[row], entities.posY[row]);
+        } else if ((components & Entities.PICKUP) != 0) {
+            addPickup(entities.lane[row], entities.posY[row]);
+        }
+    }
+
+    /**
+     * Copies the state of another index with the same lane count.
+     *
+     * @param other - The index to copy
+     */
+    public void copyFrom(LaneIndex other) {
+        System.arraycopy(other.obstacleTop, 0, obstacleTop, 0, laneCount);
+        System.arraycopy(other.pickupTop, 0, pickupTop, 0, laneCount);
+    }
+
+    /**
+     * Returns how far down the screen the closest incoming cart in a lane has
+     * traveled. Only carts in the top 70% of the screen count; a lane without one
+     * reports the screen height.
+     *
+     * @param lane - The lane index
+     * @return The top edge of the closest incoming cart, or the screen height
+     */
+    public float getCartProgress(int lane) {
+        return obstacleTop[lane] < screenHeight * 0.7 ? obstacleTop[lane] : screenHeight;
+    }
+
+    /**
+     * Returns the lanes with a cart in the top 70% of the screen.
+     */
+    public int getDangerLanes() {
+        int lanes = 0;
+        for (int i = 0; i < laneCount; i++) {
+            if (obstacleTop[i] < screenHeight * 0.7) {
+                lanes |= 1 << i;
+            }
+        }
+        return lanes;
+    }
+
+    /**
+     * Returns the lanes the chicken could escape to: lanes that are not
+     * dangerous, or whose closest cart is still far enough away.
+     */
+    public int getEscapeLanes() {
+        int danger = getDangerLanes();
+        int lanes = 0;
+        for (int i = 0; i < laneCount; i++) {
+            if ((danger & (1 << i)) == 0 || getCartProgress(i) > screenHeight * 0.4) {
+                lanes |= 1 << i;
+            }
+        }
+        return lanes;
+    }
+
+    /**
+     * Returns the lanes where the closest cart has left the top 30% of the screen.
+     */
+    public int getClearLanes() {
+        int lanes = 0;
+        for (int i = 0; i < laneCount; i++) {
+            if (getCartProgress(i) > screenHeight * 0.3) {
+                lanes |= 1 << i;
+            }
+        }
+        return lanes;
+    }
+
+    /**
+     * Returns the lanes a coin may spawn in: no cart in the top 40% of the
+     * screen and no coin in the top 30%.
+     */
+    public int getCoinLanes() {
+        int lanes = 0;
+        for (int i = 0; i < laneCount; i++) {
+            if (!(obstacleTop[i] < screenHeight * 0.4) && !(pickupTop[i] < screenHeight * 0.3)) {
+                lanes |= 1 << i;
+            }
+        }
+        return lanes;
+    }
+
+    public float getObstacleTop(int lane) {
+        return obstacleTop[lane];
+    }
+
+    public float getPickupTop(int lane) {
+        return pickupTop[lane];
+    }
+
+    /**
+     * Returns the n-th lane of a lane set, counting from lane 0.
+     *
+     * @param lanes - The lane set
+     * @param n - Which of the set's lanes to return, less than Integer.bitCount(lanes)
+     * @return The lane index
+     */
+    public static int nthLane(int lanes, int n) {
+        for (int i = 0; i < n; i++) {
+            lanes &= lanes - 1; // drop the lowest lane
+        }
+        return Integer.numberOfTrailingZeros(lanes);
+    }
+}
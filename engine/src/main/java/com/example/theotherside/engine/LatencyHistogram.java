@@ -0,0 +1,183 @@
+/*
+ * This file contains the LatencyHistogram class which records durations into
+ * fixed log-linear buckets so percentiles can be read back later. Recording is
+ * a couple of shifts and an array increment, with no allocation, so it can run
+ * on every frame of the game loop.
+ *
+ * The class manages:
+ * - Bucketing of nanosecond durations with about 6% precision
+ * - Count, mean and exact maximum
+ * - Percentile lookup (p50, p95, p99, ...)
+ * - A one-line text summary for stats files
+ * - Handing recorded values over to another histogram
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Locale;
+
+/**
+ * Histogram of durations from about 1 microsecond up to about a minute. Values
+ * below 32 us get one bucket per microsecond; above that each power of two is
+ * split into 16 buckets. Not thread-safe: record from a single thread, and expect
+ * values read from another thread to be slightly out of date.
+ */
+public class LatencyHistogram {
+    private static final int UNIT_SHIFT = 10; // ~1 us units
+    private static final int LINEAR_BUCKETS = 32;
+    private static final int SUB_BUCKETS = 16;
+    private static final int MAX_SHIFT = 21;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + MAX_SHIFT * SUB_BUCKETS;
+
+    private final String name;
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param name - The name shown in summaries
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one duration. Negative durations count as zero.
+     *
+     * @param nanos - The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[bucketIndex(nanos)]++;
+        totalCount++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Adds all values recorded here to another histogram and removes them from
+     * this one. Call it on the thread that records into this histogram.
+     *
+     * @param target - The histogram that receives the values
+     */
+    public void drainTo(LatencyHistogram target) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            target.counts[i] += counts[i];
+        }
+        target.totalCount += totalCount;
+        target.totalNanos += totalNanos;
+        target.maxNanos = Math.max(target.maxNanos, maxNanos);
+        reset();
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = 0;
+        }
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Returns the value below which the given share of recorded values fall.
+     * The result is the upper edge of the matching bucket, capped at the maximum.
+     *
+     * @param percentile - The percentile in the range (0, 100]
+     * @return The percentile value in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                // The last bucket is open-ended, so only the maximum bounds it
+                return i == BUCKET_COUNT - 1 ? maxNanos : Math.min(bucketUpperNanos(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return totalCount == 0 ? 0 : totalNanos / totalCount;
+    }
+
+    /**
+     * Formats the histogram as one line with count, p50, p95, p99, max and mean
+     * in microseconds.
+     *
+     * @return The summary line
+     */
+    public String summary() {
+        return String.format(Locale.US,
+                "%-14s count=%-7d p50=%-8.1f p95=%-8.1f p99=%-8.1f max=%-8.1f mean=%.1f",
+                name, totalCount, micros(getPercentile(50)), micros(getPercentile(95)),
+                micros(getPercentile(99)), micros(maxNanos), micros(getMeanNanos()));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * Returns the bucket a duration falls into.
+     *
+     * @param nanos - A non-negative duration in nanoseconds
+     * @return The bucket index
+     */
+    static int bucketIndex(long nanos) {
+        long units = nanos >>> UNIT_SHIFT;
+        if (units < LINEAR_BUCKETS) {
+            return (int) units;
+        }
+        // Keep the top five bits: the leading one picks the power of two, the next four the sub-bucket
+        int shift = 63 - Long.numberOfLeadingZeros(units) - 4;
+        if (shift > MAX_SHIFT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (units >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest duration that falls into a bucket.
+     *
+     * @param index - The bucket index
+     * @return The bucket's upper edge in nanoseconds
+     */
+    static long bucketUpperNanos(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return ((long) (index + 1) << UNIT_SHIFT) - 1;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << (shift + UNIT_SHIFT)) - 1;
+    }
+}
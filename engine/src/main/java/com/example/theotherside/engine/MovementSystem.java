@@ -0,0 +1,65 @@
+/*
+ * This file contains the MovementSystem class which moves every entity with a
+ * transform down the screen for one simulation tick and destroys the ones that
+ * fell below it.
+ *
+ * The class manages:
+ * - Falling at the world's speed for entities tagged SCROLLS
+ * - Falling at their own speed for entities with a velocity
+ * - Off-screen removal
+ * - Refreshing the lane index with the new positions
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Moves entities and culls those that left the bottom of the screen.
+ */
+public class MovementSystem {
+    private final float screenHeight;
+
+    /**
+     * Creates a movement system for a screen.
+     *
+     * @param screenHeight - Entities below this y coordinate are destroyed
+     */
+    public MovementSystem(float screenHeight) {
+        this.screenHeight = screenHeight;
+    }
+
+    /**
+     * Moves every entity for one tick. Rows are walked from the end so a row
+     * refilled by swap-remove holds an entity that was already moved. The lane
+     * index is refilled in the same pass from the entities that stay.
+     *
+     * @param entities - The entities to move
+     * @param lanes - The lane index to refresh
+     * @param worldSpeed - How far SCROLLS entities fall per 60 Hz reference tick
+     * @param tickScale - Length of the tick relative to a 60 Hz reference tick
+     */
+    public void update(Entities entities, LaneIndex lanes, float worldSpeed, float tickScale) {
+        int[] mask = entities.mask;
+        float[] y = entities.posY;
+        float[] velocityY = entities.velocityY;
+        float scroll = worldSpeed * tickScale;
+        lanes.clear();
+        for (int row = entities.count - 1; row >= 0; row--) {
+            int components = mask[row];
+            if ((components & Entities.TRANSFORM) == 0) {
+                continue;
+            }
+            if ((components & Entities.SCROLLS) != 0) {
+                y[row] += scroll;
+            }
+            if ((components & Entities.VELOCITY) != 0) {
+                y[row] += velocityY[row] * tickScale;
+            }
+            if (y[row] > screenHeight) {
+                entities.removeRow(row);
+            } else {
+                lanes.add(entities, row);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * This file contains the SpawnSystem class which decides when and where new
+ * carts and coins enter the game. Carts always leave the chicken an escape
+ * lane, and coins only appear in lanes that are clear near the top.
+ *
+ * The class manages:
+ * - Cart and coin spawn timers and the shrinking cart interval
+ * - Forcing a cart into the chicken's lane when it stays put too long
+ * - Choosing lanes from the lane index's bitmasks
+ * - Placing new entities with the Cart and Coin prefabs and indexing them
+ *
+ */
+
+package com.example.theotherside.engine;
+
+import java.util.Random;
+
+/**
+ * Spawns carts and coins into the entity registry. The Cart and Coin objects are
+ * prefabs: each spawn places one of them with reset() and copies it into a new
+ * entity. Lanes are chosen from the LaneIndex in O(lanes), so spawning neither
+ * scans the entities nor allocates.
+ */
+public class SpawnSystem {
+    private static final long FORCE_SPAWN_TIMEOUT = 5000;
+
+    private final WorldConfig config;
+    private final Random random;
+
+    // Placed by Cart.reset() and Coin.reset(), then copied into new entities
+    private final Cart cartPrefab = new Cart();
+    private final Coin coinPrefab = new Coin();
+
+    private long lastCartTime, lastCoinTime;
+    private long lastChickenLaneCartTime;
+    private int cartFrequency = 1000; // milliseconds
+    private int coinFrequency = 2000; // milliseconds
+
+    /**
+     * Creates a spawn system for a world.
+     *
+     * @param config - The screen, lane and sprite dimensions
+     * @param random - The random source for lanes, cart types and position jitter
+     */
+    public SpawnSystem(WorldConfig config, Random random) {
+        this.config = config;
+        this.random = random;
+    }
+
+    /**
+     * Restarts the spawn timers for a new game.
+     *
+     * @param currentTime - The game time the new game starts at, in milliseconds
+     */
+    public void reset(long currentTime) {
+        lastCartTime = lastCoinTime = lastChickenLaneCartTime = currentTime;
+        cartFrequency = 1000;
+    }
+
+    /**
+     * Generates carts with a guaranteed escape path.
+     *
+     * @param entities - The entities to spawn into
+     * @param lanes - The lane index, updated with the new cart
+     * @param currentTime - The current game time in milliseconds
+     * @param chickenLane - The lane the chicken is in
+     * @param score - The current score, which shortens the spawn interval
+     */
+    public void spawnCarts(Entities entities, LaneIndex lanes, long currentTime,
+                           int chickenLane, int score) {
+        if (currentTime - lastCartTime <= cartFrequency) {
+            return;
+        }
+
+        // Read the lanes before the forced cart below is indexed. A lane is an
+        // escape lane if it's not dangerous (no cart in the top 70% of the screen),
+        // or the danger is far enough away to escape to another lane
+        int escapeLanes = lanes.getEscapeLanes();
+        int clearLanes = lanes.getClearLanes();
+        int chickenLaneBit = 1 << chickenLane;
+
+        // Force spawn in the chicken's lane after timeout
+        if (currentTime - lastChickenLaneCartTime > FORCE_SPAWN_TIMEOUT) {
+            addCart(entities, lanes, random.nextInt(10), chickenLane);
+            lastCartTime = currentTime;
+            lastChickenLaneCartTime = currentTime; // Reset timeout
+        }
+
+        int escapeCount = Integer.bitCount(escapeLanes);
+
+        // If there's only one escape lane and it's not the chicken's lane, don't spawn a cart there
+        if (escapeCount == 1 && escapeLanes != chickenLaneBit) {
+            // Choose from lanes other than the only escape lane
+            int spawnLanes = clearLanes & ~escapeLanes;
+
+            // Only spawn a cart if there's a valid lane
+            if (spawnLanes != 0) {
+                int selectedLane = pickLane(spawnLanes);
+                addCart(entities, lanes, random.nextInt(10), selectedLane);
+                lastCartTime = currentTime;
+            }
+        }
+        // If there are multiple escape lanes, we can spawn a cart in one
+        else if (escapeCount > 1) {
+            // Never spawn a cart in the chicken's lane if it's one of several escape lanes
+            escapeLanes &= ~chickenLaneBit;
+
+            // Select a random lane from the remaining escape lanes
+            if (escapeLanes != 0) {
+                int selectedLane = pickLane(escapeLanes);
+                addCart(entities, lanes, random.nextInt(10), selectedLane);
+                lastCartTime = currentTime;
+                if (selectedLane == chickenLane) {
+                    lastChickenLaneCartTime = currentTime;
+                }
+            }
+        }
+        // If there are no escape lanes, don't spawn a cart at all
+        else {
+            lastCartTime = currentTime; // Reset timer
+        }
+
+        // Gradually increase difficulty by reducing spawn time
+        // but keep a minimum threshold to ensure game remains playable
+        cartFrequency = Math.max(1000 - (score * 3), 600);
+    }
+
+    /**
+     * Generates coins with similar logic to ensure they don't block escape paths.
+     *
+     * @param entities - The entities to spawn into
+     * @param lanes - The lane index, updated with the new coin
+     * @param currentTime - The current game time in milliseconds
+     */
+    public void spawnCoins(Entities entities, LaneIndex lanes, long currentTime) {
+        if (currentTime - lastCoinTime <= coinFrequency) {
+            return;
+        }
+
+        // Don't spawn coins in lanes that already have carts or coins near the top
+        int availableLanes = lanes.getCoinLanes();
+
+        // Spawn coin if there's at least one available lane
+        if (availableLanes != 0) {
+            int selectedLane = pickLane(availableLanes);
+            coinPrefab.reset(config, random, selectedLane);
+            int coin = entities.spawn(coinPrefab, Coin.COMPONENTS);
+            entities.setLane(coin, selectedLane);
+            lanes.addPickup(selectedLane, coinPrefab.posY);
+        }
+        lastCoinTime = currentTime;
+    }
+
+    /**
+     * Picks a random lane from a non-empty lane set, each lane equally likely.
+     */
+    private int pickLane(int lanes) {
+        return LaneIndex.nthLane(lanes, random.nextInt(Integer.bitCount(lanes)));
+    }
+
+    /**
+     * Places a new cart of the given type at the top of a lane.
+     *
+     * @param entities - The entities to spawn into
+     * @param lanes - The lane index to record the cart in
+     * @param cartType - The type of cart (determines sprite)
+     * @param lane - The lane to place the cart in
+     */
+    private void addCart(Entities entities, LaneIndex lanes, int cartType, int lane) {
+        cartPrefab.reset(config, random, cartType, lane);
+        int cart = entities.spawn(cartPrefab, Cart.COMPONENTS);
+        entities.setLane(cart, lane);
+        lanes.addObstacle(lane, cartPrefab.posY);
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * This file contains the Sprite enum which names every image a game object can be
+ * drawn with. The engine only deals in these ids and their sizes; the app maps
+ * each id to a bitmap when rendering.
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Identifies the image used to draw a game object.
+ */
+public enum Sprite {
+    CHICKEN,
+    COIN,
+    CART_NO_HAY,
+    CART_HAY
+}
@@ -0,0 +1,26 @@
+/*
+ * This file contains the SystemGameClock class which is the GameClock used
+ * while the game is running on a device.
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Game clock backed by System.nanoTime(), which is monotonic and unaffected by
+ * changes to the wall clock.
+ */
+public class SystemGameClock extends GameClock {
+
+    /**
+     * Creates a new running clock with game time starting at zero.
+     */
+    public SystemGameClock() {
+        reset();
+    }
+
+    @Override
+    protected long sourceNanos() {
+        return System.nanoTime();
+    }
+}
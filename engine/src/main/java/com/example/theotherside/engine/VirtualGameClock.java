@@ -0,0 +1,38 @@
+/*
+ * This file contains the VirtualGameClock class which is a GameClock whose time
+ * only moves when it is advanced by hand. It lets tests and simulations run a
+ * whole game far faster than real time.
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Game clock driven manually through advance() instead of a real time source.
+ */
+public class VirtualGameClock extends GameClock {
+    private long currentNanos;
+
+    @Override
+    protected synchronized long sourceNanos() {
+        return currentNanos;
+    }
+
+    /**
+     * Moves the time source forward.
+     *
+     * @param nanos - The amount of source time to add, in nanoseconds
+     */
+    public synchronized void advance(long nanos) {
+        currentNanos += nanos;
+    }
+
+    /**
+     * Moves the time source forward.
+     *
+     * @param millis - The amount of source time to add, in milliseconds
+     */
+    public void advanceMillis(long millis) {
+        advance(millis * 1_000_000L);
+    }
+}
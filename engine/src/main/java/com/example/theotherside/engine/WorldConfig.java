@@ -0,0 +1,75 @@
+/*
+ * This file contains the WorldConfig class which describes the playing field the
+ * engine simulates: screen size, number of lanes and the size of every sprite.
+ * The app fills it from the device screen and the decoded bitmaps; tests and
+ * tools can fill it with any values.
+ *
+ */
+
+package com.example.theotherside.engine;
+
+/**
+ * Dimensions of the game world and its sprites, in pixels.
+ */
+public class WorldConfig {
+    private final float screenWidth, screenHeight;
+    private final int laneCount;
+    private final float[] spriteWidths = new float[Sprite.values().length];
+    private final float[] spriteHeights = new float[Sprite.values().length];
+
+    /**
+     * Creates a new world configuration.
+     *
+     * @param screenWidth - The width of the game screen
+     * @param screenHeight - The height of the game screen
+     * @param laneCount - The number of lanes
+     */
+    public WorldConfig(float screenWidth, float screenHeight, int laneCount) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.laneCount = laneCount;
+    }
+
+    /**
+     * Sets the size a sprite is drawn (and collides) at.
+     *
+     * @param sprite - The sprite
+     * @param width - The sprite width
+     * @param height - The sprite height
+     * @return This configuration, for chaining
+     */
+    public WorldConfig setSpriteSize(Sprite sprite, float width, float height) {
+        spriteWidths[sprite.ordinal()] = width;
+        spriteHeights[sprite.ordinal()] = height;
+        return this;
+    }
+
+    public float getSpriteWidth(Sprite sprite) {
+        return spriteWidths[sprite.ordinal()];
+    }
+
+    public float getSpriteHeight(Sprite sprite) {
+        return spriteHeights[sprite.ordinal()];
+    }
+
+    public float getScreenWidth() {
+        return screenWidth;
+    }
+
+    public float getScreenHeight() {
+        return screenHeight;
+    }
+
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    /**
+     * Returns the width of a single lane.
+     *
+     * @return The lane width in pixels
+     */
+    public float getLaneWidth() {
+        return screenWidth / laneCount;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the entity registry and the collision system.
+ */
+public class EntitiesTest {
+    private final WorldConfig config = new WorldConfig(1080f, 2000f, 4)
+            .setSpriteSize(Sprite.CHICKEN, 150f, 180f)
+            .setSpriteSize(Sprite.COIN, 90f, 90f)
+            .setSpriteSize(Sprite.CART_NO_HAY, 200f, 300f)
+            .setSpriteSize(Sprite.CART_HAY, 200f, 300f);
+
+    @Test
+    public void testSpawnCopiesPrefab() {
+        Cart cart = new Cart();
+        cart.reset(config, new Random(1), 1, 2);
+        Entities entities = new Entities(4);
+        int id = entities.spawn(cart, Cart.COMPONENTS);
+
+        // Placing the prefab again does not change the spawned entity
+        float posX = cart.getPosX();
+        cart.reset(config, new Random(2), 0, 0);
+
+        int row = entities.rowOf(id);
+        assertEquals(posX, entities.getPosX(row), 0f);
+        assertEquals(Sprite.CART_HAY, entities.getSprite(row));
+        assertEquals(300f, entities.getHeight(row), 0f);
+        assertTrue(entities.has(row, Entities.OBSTACLE | Entities.SCROLLS));
+        assertFalse(entities.has(row, Entities.PICKUP));
+    }
+
+    @Test
+    public void testDestroyKeepsIdsOfOtherEntities() {
+        Entities entities = new Entities(4);
+        int first = entities.create(Entities.TRANSFORM);
+        int second = entities.create(Entities.TRANSFORM);
+        int third = entities.create(Entities.TRANSFORM);
+        entities.setLane(third, 3);
+
+        // The last row moves into the freed one, its id keeps pointing at it
+        entities.destroy(first);
+        assertFalse(entities.isAlive(first));
+        assertEquals(2, entities.size());
+        assertEquals(0, entities.rowOf(third));
+        assertEquals(3, entities.getLane(entities.rowOf(third)));
+        assertEquals(1, entities.rowOf(second));
+
+        // The freed slot is reused under a new id, and the old id stays dead
+        int recycled = entities.create(Entities.TRANSFORM);
+        assertNotEquals(first, recycled);
+        assertFalse(entities.isAlive(first));
+        assertTrue(entities.isAlive(recycled));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleDestroyFails() {
+        Entities entities = new Entities(4);
+        int id = entities.create(Entities.TRANSFORM);
+        entities.create(Entities.TRANSFORM);
+        entities.destroy(id);
+        entities.destroy(id);
+    }
+
+    @Test
+    public void testStaleIdDoesNotReachRecycledEntity() {
+        Entities entities = new Entities(4);
+        int stale = entities.create(Entities.TRANSFORM);
+        entities.destroy(stale);
+        int recycled = entities.create(Entities.TRANSFORM);
+
+        try {
+            entities.setLane(stale, 2);
+            fail("changed an entity through a stale id");
+        } catch (IllegalArgumentException expected) {
+            // the new entity is untouched
+        }
+        assertTrue(entities.isAlive(recycled));
+        assertEquals(0, entities.getLane(entities.rowOf(recycled)));
+    }
+
+    @Test
+    public void testClearKillsOldIds() {
+        Entities entities = new Entities(4);
+        int id = entities.create(Entities.TRANSFORM);
+        entities.clear();
+        int next = entities.create(Entities.TRANSFORM);
+
+        assertFalse(entities.isAlive(id));
+        assertTrue(entities.isAlive(next));
+    }
+
+    @Test
+    public void testGrowKeepsEntities() {
+        Entities entities = new Entities(1);
+        Coin coin = new Coin();
+        for (int i = 0; i < 10; i++) {
+            coin.reset(config, new Random(i), i % 4);
+            entities.setLane(entities.spawn(coin, Coin.COMPONENTS), i % 4);
+        }
+        assertEquals(10, entities.size());
+        assertTrue(entities.getCapacity() >= 10);
+        for (int row = 0; row < 10; row++) {
+            assertEquals(Sprite.COIN, entities.getSprite(row));
+            assertEquals(row % 4, entities.getLane(row));
+        }
+    }
+
+    @Test
+    public void testIntersectsMatchesHitBox() {
+        Chicken chicken = new Chicken(config);
+        Random random = new Random(3);
+        Cart cart = new Cart();
+        Entities entities = new Entities(1);
+        for (int i = 0; i < 200; i++) {
+            cart.reset(config, random, i, chicken.getLane());
+            cart.posY = chicken.posY - cart.height + random.nextFloat() * 20f - 10f;
+            cart.update();
+            entities.clear();
+            entities.spawn(cart, Cart.COMPONENTS);
+            assertEquals(cart.isColliding(chicken), entities.intersects(0, chicken.hitBox));
+        }
+    }
+
+    @Test
+    public void testCollisionCollectsOnlyPickups() {
+        Chicken chicken = new Chicken(config);
+        Entities entities = new Entities(4);
+        Coin coin = new Coin();
+        coin.reset(config, new Random(6), chicken.getLane());
+        coin.posY = chicken.posY;
+        entities.spawn(coin, Coin.COMPONENTS);
+        CollisionSystem collisions = new CollisionSystem();
+
+        assertFalse(collisions.hitsObstacle(entities, chicken.hitBox));
+        assertEquals(1, collisions.collectPickups(entities, new LaneIndex(4, 2000f), chicken.hitBox));
+        assertTrue(entities.isEmpty());
+    }
+}
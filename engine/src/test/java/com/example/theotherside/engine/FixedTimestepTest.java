@@ -0,0 +1,58 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the fixed timestep accumulator.
+ */
+public class FixedTimestepTest {
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    public void testTicksAreIndependentOfFrameRate() {
+        FixedTimestep at30 = new FixedTimestep(60);
+        FixedTimestep at120 = new FixedTimestep(60);
+
+        // One second of frames at 30 Hz and at 120 Hz
+        int ticksAt30 = 0;
+        for (int i = 0; i < 30; i++) {
+            ticksAt30 += at30.advance(1_000_000_000L / 30);
+        }
+        int ticksAt120 = 0;
+        for (int i = 0; i < 120; i++) {
+            ticksAt120 += at120.advance(1_000_000_000L / 120);
+        }
+
+        assertEquals(60, ticksAt30, 1);
+        assertEquals(60, ticksAt120, 1);
+    }
+
+    @Test
+    public void testAlphaIsLeftoverFraction() {
+        FixedTimestep timestep = new FixedTimestep(100); // 10 ms ticks
+
+        assertEquals(2, timestep.advance(25 * MILLIS));
+        assertEquals(0.5f, timestep.getAlpha(), 0.01f);
+    }
+
+    @Test
+    public void testLongStallIsClamped() {
+        FixedTimestep timestep = new FixedTimestep(60);
+
+        int ticks = timestep.advance(5_000 * MILLIS);
+        assertTrue(ticks < 60);
+        assertTrue(timestep.getAlpha() < 1f);
+    }
+
+    @Test
+    public void testReset() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        timestep.advance(5 * MILLIS);
+        timestep.reset();
+
+        assertEquals(0f, timestep.getAlpha(), 0.0001f);
+        assertEquals(0, timestep.advance(5 * MILLIS));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for GameClock, using the virtual clock implementation.
+ */
+public class GameClockTest {
+
+    @Test
+    public void testStartsAtZero() {
+        VirtualGameClock clock = new VirtualGameClock();
+        assertEquals(0, clock.uptimeMillis());
+
+        clock.advanceMillis(250);
+        assertEquals(250, clock.uptimeMillis());
+    }
+
+    @Test
+    public void testPauseStopsTime() {
+        VirtualGameClock clock = new VirtualGameClock();
+        clock.advanceMillis(100);
+
+        clock.pause();
+        clock.advanceMillis(5000);
+        assertTrue(clock.isPaused());
+        assertEquals(100, clock.uptimeMillis());
+
+        clock.resume();
+        clock.advanceMillis(50);
+        assertEquals(150, clock.uptimeMillis());
+    }
+
+    @Test
+    public void testTimeScale() {
+        VirtualGameClock clock = new VirtualGameClock();
+        clock.advanceMillis(100);
+
+        clock.setTimeScale(4f);
+        clock.advanceMillis(100);
+        assertEquals(500, clock.uptimeMillis());
+
+        clock.setTimeScale(0.5f);
+        clock.advanceMillis(100);
+        assertEquals(550, clock.uptimeMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTimeScale() {
+        new VirtualGameClock().setTimeScale(-1f);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for GameObject, Coin and Cart.
+ */
+public class GameObjectTest {
+    private final WorldConfig config = new WorldConfig(500f, 800f, 5)
+            .setSpriteSize(Sprite.CHICKEN, 80f, 90f)
+            .setSpriteSize(Sprite.COIN, 40f, 40f)
+            .setSpriteSize(Sprite.CART_NO_HAY, 150f, 200f)
+            .setSpriteSize(Sprite.CART_HAY, 150f, 200f);
+    private final Random random = new Random(42);
+
+    //==============================================================================================
+    //         GameObject Tests
+    //==============================================================================================
+    @Test
+    public void testGameObjectCreation() {
+        GameObject newObject = new GameObject(10, 10, 40, 40, Sprite.COIN);
+        assertNotNull(newObject);
+    }
+
+    @Test
+    public void testGameObjectHeight() {
+        GameObject sampleObject = new GameObject(10, 11, 2, 30, Sprite.COIN);
+        assertEquals(30, sampleObject.height, 0.01f);
+    }
+
+    @Test
+    public void testGameObjectIsAlive() {
+        GameObject sampleObject = new GameObject(5, 1, 2, 9, Sprite.COIN);
+        assertEquals(true, sampleObject.isAlive);
+    }
+
+    @Test
+    public void testGameObjectPosition() {
+        float testX = 15.5f;
+        float testY = 25.7f;
+
+        GameObject sampleObject = new GameObject(testX, testY, 20, 20, Sprite.COIN);
+        assertEquals(testX, sampleObject.posX, 0.01f);
+        assertEquals(testY, sampleObject.posY, 0.01f);
+    }
+
+    @Test
+    public void testHitBoxInitialization() {
+        float posX = 10f;
+        float posY = 15f;
+
+        GameObject sampleObject = new GameObject(posX, posY, 20, 30, Sprite.COIN);
+        assertEquals((int)posX, sampleObject.hitBox.left);
+        assertEquals((int)posY, sampleObject.hitBox.top);
+        assertEquals((int)(posX + 20), sampleObject.hitBox.right);
+        assertEquals((int)(posY + 30), sampleObject.hitBox.bottom);
+    }
+
+    @Test
+    public void testGameObjectUpdate() {
+        GameObject sampleObject = new GameObject(10f, 10f, 20, 20, Sprite.COIN);
+
+        // Change the position
+        sampleObject.posX = 30f;
+        sampleObject.posY = 40f;
+
+        // Call update to update the hitbox
+        sampleObject.update();
+
+        // Verify hitbox is updated
+        assertEquals(30, sampleObject.hitBox.left);
+        assertEquals(40, sampleObject.hitBox.top);
+        assertEquals(30 + 20, sampleObject.hitBox.right);
+        assertEquals(40 + 20, sampleObject.hitBox.bottom);
+    }
+
+    @Test
+    public void testCollisionTrue() {
+        GameObject object1 = new GameObject(0, 0, 10, 10, Sprite.COIN);
+        GameObject object2 = new GameObject(5, 5, 10, 10, Sprite.COIN);
+
+        // Objects should collide
+        assertTrue(object1.isColliding(object2));
+    }
+
+    @Test
+    public void testCollisionFalse() {
+        GameObject object1 = new GameObject(0, 0, 10, 10, Sprite.COIN);
+        GameObject object2 = new GameObject(20, 20, 10, 10, Sprite.COIN);
+
+        // Objects should not collide
+        assertFalse(object1.isColliding(object2));
+    }
+
+    @Test
+    public void testTouchingEdgesDoNotCollide() {
+        GameObject object1 = new GameObject(0, 0, 10, 10, Sprite.COIN);
+        GameObject object2 = new GameObject(10, 0, 10, 10, Sprite.COIN);
+
+        // Same as Rect.intersects: sharing an edge is not an overlap
+        assertFalse(object1.isColliding(object2));
+    }
+
+    //==============================================================================================
+    //         Coin Class Tests
+    //==============================================================================================
+    private Coin coin(Random random, int lane) {
+        Coin coin = new Coin();
+        coin.reset(config, random, lane);
+        return coin;
+    }
+
+    @Test
+    public void testCoinCreation() {
+        Coin sampleCoin = coin(random, 2);
+
+        assertNotNull(sampleCoin);
+        assertEquals(Sprite.COIN, sampleCoin.getSprite());
+    }
+
+    @Test
+    public void testCoinSpeed() {
+        Coin sampleCoin = coin(random, 0);
+
+        assertEquals(5f, sampleCoin.speed, 0.01);
+    }
+
+    @Test
+    public void testCoinPosition() {
+        // Make a coin in lane 3
+        Coin coin = coin(random, 3);
+
+        // Check that it's somewhere in lane 3
+        // Lane width should be 100 (500/5)
+        // So lane 3 starts at position 300
+        assertTrue(coin.posX >= 295); // Allow for random -5
+        assertTrue(coin.posX <= 405); // Allow for random +5
+    }
+
+    @Test
+    public void testCoinStartsAbove() {
+        Coin coin = coin(random, 2);
+
+        // Should start above screen
+        assertTrue(coin.posY < 0);
+    }
+
+    @Test
+    public void testCoinResetReplacesCoin() {
+        Coin coin = coin(random, 2);
+        coin.posY = 900f;
+        coin.update();
+
+        coin.reset(config, new Random(7), 4);
+        Coin fresh = coin(new Random(7), 4);
+        assertEquals(fresh.posX, coin.posX, 0f);
+        assertEquals(fresh.posY, coin.posY, 0f);
+        assertEquals(coin.posY, coin.prevY, 0f);
+        assertTrue(coin.isAlive());
+    }
+
+    //==============================================================================================
+    //         Cart Class Tests
+    //==============================================================================================
+    private Cart cart(Random random, int cartType, int lane) {
+        Cart cart = new Cart();
+        cart.reset(config, random, cartType, lane);
+        return cart;
+    }
+
+    @Test
+    public void testCartCreation() {
+        Cart sampleCart = cart(random, 0, 2);
+
+        assertNotNull(sampleCart);
+    }
+
+    @Test
+    public void testCartPosition() {
+        Cart cart = cart(random, 0, 3);
+
+        // Carts are wider than a lane, so they are centered on it and overhang
+        // Lane width should be 100 (500/5)
+        // So lane 3 starts at position 300
+        assertFalse(cart.posX >= 295); // Allow for random -5
+        assertTrue(cart.posX <= 405); // Allow for random +5
+    }
+
+    @Test
+    public void testCartStartsAbove() {
+        Cart cart = cart(random, 0, 2);
+
+        // Should start above screen
+        assertTrue(cart.posY < 0);
+    }
+
+    @Test
+    public void testCartType() {
+        // Even cart types have no hay, odd cart types carry hay
+        assertEquals(Sprite.CART_NO_HAY, cart(random, 0, 2).getSprite());
+        assertEquals(Sprite.CART_HAY, cart(random, 1, 2).getSprite());
+        assertEquals(Sprite.CART_NO_HAY, cart(random, 2, 2).getSprite());
+        assertEquals(Sprite.CART_HAY, cart(random, 3, 2).getSprite());
+    }
+
+    @Test
+    public void testCartResetChangesTypeAndLane() {
+        Cart cart = cart(random, 0, 0);
+        cart.posY = 900f;
+        cart.update();
+
+        cart.reset(config, new Random(7), 1, 3);
+        Cart fresh = cart(new Random(7), 1, 3);
+        assertEquals(Sprite.CART_HAY, cart.getSprite());
+        assertEquals(fresh.posX, cart.posX, 0f);
+        assertEquals(fresh.posY, cart.posY, 0f);
+        assertTrue(cart.posY < 0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for GameWorld, played headless on a virtual clock.
+ */
+public class GameWorldTest {
+    private final WorldConfig config = new WorldConfig(1080f, 2000f, 4)
+            .setSpriteSize(Sprite.CHICKEN, 150f, 180f)
+            .setSpriteSize(Sprite.COIN, 90f, 90f)
+            .setSpriteSize(Sprite.CART_NO_HAY, 200f, 300f)
+            .setSpriteSize(Sprite.CART_HAY, 200f, 300f);
+
+    @Test
+    public void testIdleChickenIsHitByForcedCart() {
+        // A cart is forced into the chicken's lane after 5 seconds
+        GameWorld world = new HeadlessRunner(config, 60).play(1, HeadlessRunner.IDLE, 60_000);
+
+        assertTrue(world.isGameOver());
+        assertTrue(world.getScore() > 0);
+        assertTrue(world.getDistanceTraveled() < 60_000 * 0.2f);
+    }
+
+    @Test
+    public void testSameSeedPlaysSameGame() {
+        HeadlessRunner runner = new HeadlessRunner(config, 60);
+        GameWorld first = runner.play(7, HeadlessRunner.DODGE, 120_000);
+        GameWorld second = runner.play(7, HeadlessRunner.DODGE, 120_000);
+
+        assertEquals(first.getDistanceTraveled(), second.getDistanceTraveled(), 0f);
+        assertEquals(first.getCoinsCollected(), second.getCoinsCollected());
+    }
+
+    @Test
+    public void testDodgingOutlastsStandingStill() {
+        HeadlessRunner runner = new HeadlessRunner(config, 60);
+        float idle = 0f;
+        float dodge = 0f;
+        for (long seed = 0; seed < 20; seed++) {
+            idle += runner.play(seed, HeadlessRunner.IDLE, 120_000).getDistanceTraveled();
+            dodge += runner.play(seed, HeadlessRunner.DODGE, 120_000).getDistanceTraveled();
+        }
+        assertTrue(dodge > idle);
+    }
+
+    @Test
+    public void testCrashIsReportedOnce() {
+        VirtualGameClock clock = new VirtualGameClock();
+        GameWorld world = new GameWorld(config, clock, new Random(3));
+        int[] crashes = new int[1];
+        world.setListener(new GameWorld.Listener() {
+            @Override
+            public void onCrash(int finalScore, int coinsCollected) {
+                crashes[0]++;
+            }
+
+            @Override
+            public void onCoinCollected(int coinsCollected) {
+            }
+
+            @Override
+            public void onSpeedUp() {
+            }
+        });
+
+        for (int i = 0; i < 60 * 60; i++) {
+            clock.advanceMillis(16);
+            world.tick();
+        }
+        assertTrue(world.isGameOver());
+        assertEquals(1, crashes[0]);
+    }
+
+    @Test
+    public void testResetStartsNewGame() {
+        VirtualGameClock clock = new VirtualGameClock();
+        GameWorld world = new GameWorld(config, clock, new Random(5));
+        for (int i = 0; i < 600; i++) {
+            clock.advanceMillis(16);
+            world.tick();
+        }
+        assertTrue(world.getDistanceTraveled() > 0f);
+
+        world.reset();
+        assertFalse(world.isGameOver());
+        assertEquals(0, world.getScore());
+        assertEquals(0, world.getCoinsCollected());
+        assertTrue(world.getEntities().isEmpty());
+        assertEquals(config.getLaneCount() / 2, world.getChicken().getLane());
+    }
+
+    @Test
+    public void testResetReusesObjects() {
+        VirtualGameClock clock = new VirtualGameClock();
+        GameWorld world = new GameWorld(config, clock, new Random(5));
+        Chicken chicken = world.getChicken();
+        Entities entities = world.getEntities();
+        world.moveChickenLeft();
+        for (int i = 0; i < 600; i++) {
+            clock.advanceMillis(16);
+            world.tick();
+        }
+
+        world.reset();
+        assertSame(chicken, world.getChicken());
+        assertSame(entities, world.getEntities());
+        assertEquals(config.getLaneCount() / 2, chicken.getLane());
+        assertEquals(chicken.getPosX(), chicken.getPrevX(), 0f);
+    }
+
+    @Test
+    public void testTickRateDoesNotChangeGameplaySpeed() {
+        // A cart moves the same distance per second at 30 and 60 Hz
+        float at60 = cartTravelPerSecond(60);
+        float at30 = cartTravelPerSecond(30);
+        assertEquals(at60, at30, at60 * 0.05f);
+    }
+
+    private float cartTravelPerSecond(int tickRate) {
+        VirtualGameClock clock = new VirtualGameClock();
+        FixedTimestep timestep = new FixedTimestep(tickRate);
+        GameWorld world = new GameWorld(config, clock, new Random(11));
+        world.setTickRate(tickRate);
+
+        // Run until the first cart appears, then follow it for one second
+        // Follow the cart by id, as its row can change when other entities go
+        Entities entities = world.getEntities();
+        int cart = -1;
+        while (cart < 0) {
+            clock.advance(timestep.getTickNanos());
+            world.tick();
+            for (int row = 0; row < entities.size(); row++) {
+                if (entities.has(row, Entities.OBSTACLE)) {
+                    cart = entities.getEntity(row);
+                    break;
+                }
+            }
+        }
+        float startY = entities.getPosY(entities.rowOf(cart));
+        for (int i = 0; i < tickRate; i++) {
+            clock.advance(timestep.getTickNanos());
+            world.tick();
+        }
+        return entities.getPosY(entities.rowOf(cart)) - startY;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the lane occupancy index.
+ */
+public class LaneIndexTest {
+    private static final float HEIGHT = 1000f;
+
+    private final WorldConfig config = new WorldConfig(1080f, 2000f, 4)
+            .setSpriteSize(Sprite.CHICKEN, 150f, 180f)
+            .setSpriteSize(Sprite.COIN, 90f, 90f)
+            .setSpriteSize(Sprite.CART_NO_HAY, 200f, 300f)
+            .setSpriteSize(Sprite.CART_HAY, 200f, 300f);
+
+    @Test
+    public void testEmptyLanesAreFree() {
+        LaneIndex lanes = new LaneIndex(4, HEIGHT);
+        assertEquals(0, lanes.getDangerLanes());
+        assertEquals(0b1111, lanes.getEscapeLanes());
+        assertEquals(0b1111, lanes.getClearLanes());
+        assertEquals(0b1111, lanes.getCoinLanes());
+        assertEquals(HEIGHT, lanes.getCartProgress(2), 0f);
+    }
+
+    @Test
+    public void testCartPositionsSetLaneMasks() {
+        LaneIndex lanes = new LaneIndex(4, HEIGHT);
+        lanes.addObstacle(0, 100f); // near the top: dangerous, blocks coins
+        lanes.addObstacle(1, 350f); // clear for a new cart, still blocks coins
+        lanes.addObstacle(2, 500f); // dangerous but far enough to escape
+        lanes.addObstacle(3, 800f); // below the danger line
+        lanes.addObstacle(2, 650f); // only the topmost cart counts
+
+        assertEquals(0b0111, lanes.getDangerLanes());
+        assertEquals(0b1100, lanes.getEscapeLanes());
+        assertEquals(0b1110, lanes.getClearLanes());
+        assertEquals(0b1100, lanes.getCoinLanes());
+        assertEquals(500f, lanes.getCartProgress(2), 0f);
+        assertEquals(HEIGHT, lanes.getCartProgress(3), 0f);
+    }
+
+    @Test
+    public void testCoinsNearTheTopBlockCoins() {
+        LaneIndex lanes = new LaneIndex(4, HEIGHT);
+        lanes.addPickup(1, 200f);
+        lanes.addPickup(2, 400f);
+        assertEquals(0b1101, lanes.getCoinLanes());
+        assertEquals(0b1111, lanes.getEscapeLanes());
+    }
+
+    @Test
+    public void testNthLane() {
+        assertEquals(1, LaneIndex.nthLane(0b1010, 0));
+        assertEquals(3, LaneIndex.nthLane(0b1010, 1));
+        assertEquals(31, LaneIndex.nthLane(1 << 31, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyLanes() {
+        new LaneIndex(LaneIndex.MAX_LANES + 1, HEIGHT);
+    }
+
+    @Test
+    public void testIndexIsInSyncRightAfterSpawnsAndPickups() {
+        // The movement pass refills the index every tick, so check it between the
+        // steps of a tick, where only the spawn system's incremental updates and
+        // the collected pickups have changed it
+        VirtualGameClock clock = new VirtualGameClock();
+        GameWorld world = new GameWorld(config, clock, new Random(9));
+        Entities entities = world.getEntities();
+        LaneIndex rebuilt = new LaneIndex(config.getLaneCount(), config.getScreenHeight());
+        int spawned = 0;
+        for (int i = 0; i < 60 * 60 && !world.isGameOver(); i++) {
+            clock.advanceMillis(16);
+            long now = clock.uptimeMillis();
+            world.updateSpeed(now);
+
+            int before = entities.size();
+            world.spawnCarts(now);
+            assertIndexMatches(world.getLanes(), rebuilt, entities);
+            world.spawnCoins(now);
+            assertIndexMatches(world.getLanes(), rebuilt, entities);
+            spawned += entities.size() - before;
+
+            world.moveEntities();
+            world.checkCollisions();
+            assertIndexMatches(world.getLanes(), rebuilt, entities);
+
+            if (i % 2 == 0) {
+                world.moveChickenLeft();
+            } else {
+                world.moveChickenRight();
+            }
+        }
+        assertTrue(spawned > 0);
+    }
+
+    private void assertIndexMatches(LaneIndex lanes, LaneIndex rebuilt, Entities entities) {
+        rebuilt.rebuild(entities);
+        for (int lane = 0; lane < config.getLaneCount(); lane++) {
+            assertEquals(rebuilt.getObstacleTop(lane), lanes.getObstacleTop(lane), 0f);
+            assertEquals(rebuilt.getPickupTop(lane), lanes.getPickupTop(lane), 0f);
+        }
+    }
+}
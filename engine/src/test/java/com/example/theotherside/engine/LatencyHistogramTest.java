@@ -0,0 +1,97 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the latency histogram.
+ */
+public class LatencyHistogramTest {
+    private static final long MICROS = 1_000L;
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram("empty");
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        // Every bucket starts right after the previous one ends
+        for (int i = 1; i < 300; i++) {
+            long start = LatencyHistogram.bucketUpperNanos(i - 1) + 1;
+            assertEquals(i, LatencyHistogram.bucketIndex(start));
+            assertEquals(i, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperNanos(i)));
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram("frames");
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 20 * MICROS); // 20 us .. 20 ms
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(10 * MILLIS, histogram.getPercentile(50), 10 * MILLIS * 0.07);
+        assertEquals(19 * MILLIS, histogram.getPercentile(95), 19 * MILLIS * 0.07);
+        assertEquals(19.8 * MILLIS, histogram.getPercentile(99), 19.8 * MILLIS * 0.07);
+        assertEquals(20 * MILLIS, histogram.getMaxNanos());
+        assertEquals(20 * MILLIS, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testOutlierOnlyMovesTail() {
+        LatencyHistogram histogram = new LatencyHistogram("draw");
+        for (int i = 0; i < 99; i++) {
+            histogram.record(2 * MILLIS);
+        }
+        histogram.record(250 * MILLIS);
+
+        assertTrue(histogram.getPercentile(50) <= 2 * MILLIS * 1.07);
+        assertTrue(histogram.getPercentile(99) <= 2 * MILLIS * 1.07);
+        assertEquals(250 * MILLIS, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void testHugeAndNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram("stall");
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE / 2);
+
+        assertEquals(2, histogram.getCount());
+        assertTrue(histogram.getPercentile(50) < 2 * MICROS);
+        assertEquals(Long.MAX_VALUE / 2, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testDrainToMovesValues() {
+        LatencyHistogram live = new LatencyHistogram("sim");
+        LatencyHistogram finished = new LatencyHistogram("sim");
+        finished.record(2 * MILLIS);
+        live.record(1 * MILLIS);
+        live.record(9 * MILLIS);
+
+        live.drainTo(finished);
+
+        assertEquals(0, live.getCount());
+        assertEquals(3, finished.getCount());
+        assertEquals(9 * MILLIS, finished.getMaxNanos());
+        assertEquals(4 * MILLIS, finished.getMeanNanos());
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram("sim");
+        histogram.record(5 * MILLIS);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+}
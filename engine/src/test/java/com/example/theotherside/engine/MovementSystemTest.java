@@ -0,0 +1,98 @@
+package com.example.theotherside.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for moving entities and removing the ones that leave the screen.
+ */
+public class MovementSystemTest {
+    private static final float SCREEN_HEIGHT = 2000f;
+
+    private final WorldConfig config = new WorldConfig(1080f, SCREEN_HEIGHT, 4)
+            .setSpriteSize(Sprite.CHICKEN, 150f, 180f)
+            .setSpriteSize(Sprite.COIN, 90f, 90f)
+            .setSpriteSize(Sprite.CART_NO_HAY, 200f, 300f)
+            .setSpriteSize(Sprite.CART_HAY, 200f, 300f);
+    private final MovementSystem movement = new MovementSystem(SCREEN_HEIGHT);
+    private final LaneIndex lanes = new LaneIndex(4, SCREEN_HEIGHT);
+    private final Entities entities = new Entities(4);
+    private final Cart cart = new Cart();
+    private final Coin coin = new Coin();
+
+    private int spawnCoin(int lane, float posY) {
+        coin.reset(config, new Random(lane), lane);
+        coin.posY = posY;
+        int id = entities.spawn(coin, Coin.COMPONENTS);
+        entities.setLane(id, lane);
+        return id;
+    }
+
+    private float posY(int id) {
+        return entities.getPosY(entities.rowOf(id));
+    }
+
+    @Test
+    public void testMovementUsesWorldSpeedOrVelocity() {
+        cart.reset(config, new Random(4), 0, 1);
+        int cartId = entities.spawn(cart, Cart.COMPONENTS);
+        int coinId = spawnCoin(2, 100f);
+        float cartY = posY(cartId);
+
+        movement.update(entities, lanes, 12f, 0.5f);
+
+        // Carts fall at the world's speed, coins at their own speed of 5 per reference tick
+        assertEquals(cartY + 6f, posY(cartId), 0.001f);
+        assertEquals(102.5f, posY(coinId), 0.001f);
+    }
+
+    @Test
+    public void testCoinFallsItsSpeedPerTick() {
+        int coinId = spawnCoin(0, 100f);
+
+        movement.update(entities, lanes, 0f, 1f);
+        movement.update(entities, lanes, 0f, 1f);
+
+        assertEquals(110f, posY(coinId), 0.001f);
+    }
+
+    @Test
+    public void testMovementCullsOffScreenEntities() {
+        int leaving = spawnCoin(0, 1999f);
+        int staying = spawnCoin(1, 100f);
+
+        movement.update(entities, lanes, 0f, 1f);
+
+        assertFalse(entities.isAlive(leaving));
+        assertTrue(entities.isAlive(staying));
+    }
+
+    @Test
+    public void testOnlyEntitiesBelowTheScreenAreRemoved() {
+        // Ends exactly at the bottom edge: still on screen
+        int atEdge = spawnCoin(0, SCREEN_HEIGHT - 5f);
+        // Ends just past it: removed
+        int past = spawnCoin(1, SCREEN_HEIGHT - 4f);
+
+        movement.update(entities, lanes, 0f, 1f);
+
+        assertTrue(entities.isAlive(atEdge));
+        assertEquals(SCREEN_HEIGHT, posY(atEdge), 0f);
+        assertFalse(entities.isAlive(past));
+    }
+
+    @Test
+    public void testMovementRefreshesLaneIndex() {
+        spawnCoin(2, 100f);
+        int leaving = spawnCoin(3, 1999f);
+
+        movement.update(entities, lanes, 0f, 1f);
+
+        assertFalse(entities.isAlive(leaving));
+        assertEquals(105f, lanes.getPickupTop(2), 0.001f);
+        assertEquals(Float.POSITIVE_INFINITY, lanes.getPickupTop(3), 0f);
+    }
+}
@@ -21,3 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "TheOtherSide"
 include(":app")
+include(":engine")
+include(":benchmark")